@@ -0,0 +1,27 @@
+package com.freelaconnect.api;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the usual JMH command line and always attaches
+ * the GC profiler so allocation rate ({@code gc.alloc.rate.norm}) is reported next to time per
+ * operation.
+ */
+public final class BenchmarkMain {
+  private BenchmarkMain() {}
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    if (commandLine.shouldHelp() || commandLine.shouldList()) {
+      org.openjdk.jmh.Main.main(args);
+      return;
+    }
+    Options options =
+        new OptionsBuilder().parent(commandLine).addProfiler(GCProfiler.class).build();
+    new Runner(options).run();
+  }
+}
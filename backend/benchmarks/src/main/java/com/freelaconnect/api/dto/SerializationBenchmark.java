@@ -0,0 +1,88 @@
+package com.freelaconnect.api.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelaconnect.api.dto.FreelancerDtos.FreelancerSummary;
+import com.freelaconnect.api.model.Client;
+import com.freelaconnect.api.model.Freelancer;
+import com.freelaconnect.api.model.Project;
+import com.freelaconnect.api.model.ProjectStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/** Response serialization with the same Jackson configuration Spring MVC uses. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+  private ObjectMapper objectMapper;
+  private CursorPage<FreelancerSummary> summaryPage;
+  private List<Project> projects;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    List<FreelancerSummary> summaries = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      FreelancerSummary summary = new FreelancerSummary();
+      summary.setId((long) i);
+      summary.setFullName("Freelancer " + i);
+      summary.setCategories(List.of("Developers / Coders", "Tutors"));
+      summary.setSkills("Java, Spring Boot, React, SQL");
+      summary.setProfilePhotoUrl("/api/photos/" + Integer.toHexString(i));
+      summary.setAverageRating(4.25);
+      summary.setReviewCount(12L);
+      summaries.add(summary);
+    }
+    summaryPage = new CursorPage<>(summaries, "T0xERVNUAAE5AA");
+
+    Client client = new Client();
+    client.setId(1L);
+    client.setFullName("Benchmark Client");
+    client.setCompany("Acme");
+    projects = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      Freelancer freelancer = new Freelancer();
+      freelancer.setId((long) i);
+      freelancer.setFullName("Freelancer " + i);
+      freelancer.setSkills("Java, Spring Boot");
+      freelancer.setBio("Full-stack developer with ten years of experience building web apps.");
+      Project project = new Project();
+      project.setId((long) i);
+      project.setClient(client);
+      project.setFreelancer(freelancer);
+      project.setTitle("Landing page redesign " + i);
+      project.setDescription("Refresh the marketing site and move it to the new design system.");
+      project.setServiceName("Web development");
+      project.setDuration("2 weeks");
+      project.setSalary(1500.0);
+      project.setStatus(ProjectStatus.IN_PROGRESS);
+      projects.add(project);
+    }
+  }
+
+  @Benchmark
+  public byte[] freelancerSummaryPage() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(summaryPage);
+  }
+
+  @Benchmark
+  public byte[] projectList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(projects);
+  }
+}
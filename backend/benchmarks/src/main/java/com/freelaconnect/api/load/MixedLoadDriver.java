@@ -0,0 +1,430 @@
+package com.freelaconnect.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Closed-loop load driver for a running API. Each worker repeatedly picks an operation from the
+ * configured mix and records its latency, plus the SQL statement count when the server reports
+ * one (the {@code loadtest} profile sends {@code X-Sql-Statement-Count}).
+ *
+ * <p>Against a {@code loadtest} server, pass {@code --generated-clients} and {@code
+ * --generated-freelancers} to use the generated accounts; otherwise the driver registers its own.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.freelaconnect.api.load.MixedLoadDriver \
+ *     --base-url=http://localhost:8082 --concurrency=200 --duration=60 --warmup=15 \
+ *     --mix=browse:40,search:15,filter:10,profile:15,categories:5,login:5,hire:5,projects:5
+ * </pre>
+ */
+public class MixedLoadDriver {
+  static final String SQL_COUNT_HEADER = "X-Sql-Statement-Count";
+  private static final ObjectMapper JSON = new ObjectMapper();
+  private static final String PASSWORD = "load-test-password";
+  private static final String GENERATED_PASSWORD = "loadtest";
+  private static final String DEFAULT_MIX = "browse:80,login:15,hire:5";
+  private static final String[] SEARCH_TERMS = {
+    "java", "react", "figma", "photoshop", "python", "tutoring", "spring", "video", "sql", "smith"
+  };
+  private static final String[] CATEGORIES = {
+    "Designers", "Developers / Coders", "Tutors", "Video Editors", "Photo Editor"
+  };
+  private static final int TOKEN_POOL_SIZE = 20;
+
+  private final HttpClient http;
+  private final String baseUrl;
+  private final Map<String, Integer> mix;
+  private final Map<String, Function<ThreadLocalRandom, HttpRequest>> operations =
+      new LinkedHashMap<>();
+  private final List<String> clientEmails = new ArrayList<>();
+  private final List<String> clientTokens = new ArrayList<>();
+  private String clientPassword;
+  private long firstFreelancerId;
+  private int freelancerCount;
+
+  MixedLoadDriver(String baseUrl, Map<String, Integer> mix) {
+    this.baseUrl = baseUrl;
+    this.mix = mix;
+    this.http =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    operations.put("browse", random -> get("/api/clients/freelancers?limit=20", token(random)));
+    operations.put(
+        "search",
+        random ->
+            get(
+                "/api/clients/freelancers?limit=20&search="
+                    + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)],
+                token(random)));
+    operations.put(
+        "filter",
+        random ->
+            get(
+                "/api/clients/freelancers?limit=20&rating=4&category="
+                    + URLEncoder.encode(
+                        CATEGORIES[random.nextInt(CATEGORIES.length)], StandardCharsets.UTF_8),
+                token(random)));
+    operations.put("profile", random -> get("/api/freelancers/" + freelancerId(random), null));
+    operations.put("categories", random -> get("/api/categories", null));
+    operations.put("projects", random -> get("/api/clients/me/projects", token(random)));
+    operations.put(
+        "login",
+        random -> {
+          Map<String, Object> body = new HashMap<>();
+          body.put("email", clientEmails.get(random.nextInt(clientEmails.size())));
+          body.put("password", clientPassword);
+          return post("/api/auth/login", body, null);
+        });
+    operations.put(
+        "hire",
+        random -> {
+          Map<String, Object> body = new HashMap<>();
+          body.put("title", "Load test project");
+          body.put("freelancerId", freelancerId(random));
+          return post("/api/clients/hire", body, token(random));
+        });
+    for (String op : mix.keySet()) {
+      if (!operations.containsKey(op)) {
+        throw new IllegalArgumentException(
+            "Unknown operation " + op + ", expected one of " + operations.keySet());
+      }
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = parseOptions(args);
+    MixedLoadDriver driver =
+        new MixedLoadDriver(
+            options.getOrDefault("base-url", "http://localhost:8082"),
+            parseMix(options.getOrDefault("mix", DEFAULT_MIX)));
+    int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "100"));
+    long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "10"));
+    long durationSeconds = Long.parseLong(options.getOrDefault("duration", "30"));
+    int generatedClients = Integer.parseInt(options.getOrDefault("generated-clients", "0"));
+    int generatedFreelancers = Integer.parseInt(options.getOrDefault("generated-freelancers", "0"));
+
+    if (generatedClients > 0 && generatedFreelancers > 0) {
+      driver.useGeneratedAccounts(generatedClients, generatedFreelancers);
+    } else {
+      driver.setUp(Integer.parseInt(options.getOrDefault("freelancers", "50")));
+    }
+    if (warmupSeconds > 0) {
+      driver.run(concurrency, warmupSeconds);
+    }
+    Map<String, Stats> results = driver.run(concurrency, durationSeconds);
+    report(results, durationSeconds, concurrency);
+  }
+
+  void setUp(int freelancers) throws IOException, InterruptedException {
+    String runId = Long.toString(System.currentTimeMillis(), 36);
+    List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < freelancers; i++) {
+      Map<String, Object> body = new HashMap<>();
+      body.put("fullName", "Load Freelancer " + i);
+      body.put("skills", i % 2 == 0 ? "Java, Spring" : "Figma, Photoshop");
+      body.put("bio", "Generated by the load driver");
+      body.put("categoryNames", List.of(i % 2 == 0 ? "Developers / Coders" : "Designers"));
+      body.put("email", "load-freelancer-" + runId + "-" + i + "@example.com");
+      body.put("password", PASSWORD);
+      HttpResponse<String> response = send(post("/api/auth/register/freelancer", body, null));
+      String token = expectOk(response, "register freelancer").get("token").asText();
+      ids.add(expectOk(send(get("/api/freelancers/me", token)), "load profile").get("id").asLong());
+    }
+    // Registered freelancers get consecutive ids unless other writers interleave; the profile and
+    // hire operations only need ids that exist, so fall back to the observed range.
+    firstFreelancerId = ids.stream().mapToLong(Long::longValue).min().orElse(1);
+    freelancerCount =
+        (int) (ids.stream().mapToLong(Long::longValue).max().orElse(1) - firstFreelancerId + 1);
+
+    String email = "load-client-" + runId + "@example.com";
+    Map<String, Object> client = new HashMap<>();
+    client.put("fullName", "Load Client");
+    client.put("email", email);
+    client.put("password", PASSWORD);
+    clientTokens.add(
+        expectOk(send(post("/api/auth/register/client", client, null)), "register client")
+            .get("token")
+            .asText());
+    clientEmails.add(email);
+    clientPassword = PASSWORD;
+  }
+
+  void useGeneratedAccounts(int clients, int freelancers) throws IOException, InterruptedException {
+    clientPassword = GENERATED_PASSWORD;
+    for (int i = 0; i < clients; i++) {
+      clientEmails.add("gen-client-" + i + "@load.test");
+    }
+    for (int i = 0; i < Math.min(TOKEN_POOL_SIZE, clients); i++) {
+      Map<String, Object> body = new HashMap<>();
+      body.put("email", clientEmails.get(i));
+      body.put("password", clientPassword);
+      clientTokens.add(
+          expectOk(send(post("/api/auth/login", body, null)), "login " + clientEmails.get(i))
+              .get("token")
+              .asText());
+    }
+    // The generator assigns freelancer ids consecutively, so the newest profile ends the block.
+    JsonNode page =
+        expectOk(send(get("/api/freelancers?sort=newest&limit=1", null)), "newest freelancer");
+    freelancerCount = freelancers;
+    firstFreelancerId = page.get("items").get(0).get("id").asLong() - freelancers + 1;
+  }
+
+  Map<String, Stats> run(int concurrency, long seconds) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    List<Map<String, Stats>> perWorker = new ArrayList<>();
+    ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+    for (int i = 0; i < concurrency; i++) {
+      Map<String, Stats> stats = new LinkedHashMap<>();
+      mix.keySet().forEach(op -> stats.put(op, new Stats()));
+      perWorker.add(stats);
+      workers.execute(() -> work(stats, deadline));
+    }
+    workers.shutdown();
+    workers.awaitTermination(seconds + 60, TimeUnit.SECONDS);
+
+    Map<String, Stats> merged = new LinkedHashMap<>();
+    for (Map<String, Stats> stats : perWorker) {
+      stats.forEach((op, s) -> merged.computeIfAbsent(op, key -> new Stats()).merge(s));
+    }
+    return merged;
+  }
+
+  private void work(Map<String, Stats> stats, long deadline) {
+    int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    while (System.nanoTime() < deadline) {
+      int pick = random.nextInt(totalWeight);
+      String op = null;
+      for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+        pick -= entry.getValue();
+        if (pick < 0) {
+          op = entry.getKey();
+          break;
+        }
+      }
+      HttpRequest request = operations.get(op).apply(random);
+      long start = System.nanoTime();
+      int status;
+      long sqlCount = -1;
+      try {
+        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+        status = response.statusCode();
+        OptionalLong header = response.headers().firstValueAsLong(SQL_COUNT_HEADER);
+        if (header.isPresent()) {
+          sqlCount = header.getAsLong();
+        }
+      } catch (IOException ex) {
+        status = -1;
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      stats.get(op).record(System.nanoTime() - start, status, sqlCount);
+    }
+  }
+
+  private String token(ThreadLocalRandom random) {
+    return clientTokens.get(random.nextInt(clientTokens.size()));
+  }
+
+  private long freelancerId(ThreadLocalRandom random) {
+    return firstFreelancerId + random.nextInt(freelancerCount);
+  }
+
+  private static void report(Map<String, Stats> results, long seconds, int concurrency) {
+    System.out.printf(Locale.ROOT, "concurrency=%d duration=%ds%n", concurrency, seconds);
+    System.out.printf(
+        Locale.ROOT,
+        "%-10s %9s %9s %8s %8s %9s %9s %9s %8s %8s%n",
+        "op",
+        "requests",
+        "req/s",
+        "errors",
+        "503s",
+        "p50(ms)",
+        "p99(ms)",
+        "max(ms)",
+        "sql/req",
+        "sql p99");
+    Stats total = new Stats();
+    results.forEach(
+        (op, stats) -> {
+          print(op, stats, seconds);
+          total.merge(stats);
+        });
+    print("total", total, seconds);
+  }
+
+  private static void print(String op, Stats stats, long seconds) {
+    long[] sorted = stats.sortedLatencies();
+    long[] sql = stats.sortedSqlCounts();
+    System.out.printf(
+        Locale.ROOT,
+        "%-10s %9d %9.1f %8d %8d %9.1f %9.1f %9.1f %8s %8s%n",
+        op,
+        sorted.length,
+        sorted.length / (double) seconds,
+        stats.errors,
+        stats.unavailable,
+        percentile(sorted, 0.50) / 1e6,
+        percentile(sorted, 0.99) / 1e6,
+        sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e6,
+        sql.length == 0
+            ? "-"
+            : String.format(Locale.ROOT, "%.1f", Arrays.stream(sql).average().orElse(0)),
+        sql.length == 0 ? "-" : String.valueOf((long) percentile(sql, 0.99)));
+  }
+
+  private static double percentile(long[] sorted, double quantile) {
+    if (sorted.length == 0) {
+      return 0.0;
+    }
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(0, index)];
+  }
+
+  private HttpRequest get(String path, String token) {
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET();
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    return builder.build();
+  }
+
+  private HttpRequest post(String path, Object body, String token) {
+    try {
+      HttpRequest.Builder builder =
+          HttpRequest.newBuilder(URI.create(baseUrl + path))
+              .timeout(Duration.ofSeconds(30))
+              .header("Content-Type", "application/json")
+              .POST(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body)));
+      if (token != null) {
+        builder.header("Authorization", "Bearer " + token);
+      }
+      return builder.build();
+    } catch (IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+    return http.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  private static JsonNode expectOk(HttpResponse<String> response, String step) throws IOException {
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(
+          step + " failed with " + response.statusCode() + ": " + response.body());
+    }
+    return JSON.readTree(response.body());
+  }
+
+  static Map<String, Integer> parseMix(String spec) {
+    Map<String, Integer> mix = new LinkedHashMap<>();
+    for (String part : spec.split(",")) {
+      String[] entry = part.trim().split(":");
+      if (entry.length != 2) {
+        throw new IllegalArgumentException("Expected op:weight but got " + part);
+      }
+      int weight = Integer.parseInt(entry[1].trim());
+      if (weight > 0) {
+        mix.put(entry[0].trim(), weight);
+      }
+    }
+    if (mix.isEmpty()) {
+      throw new IllegalArgumentException("The mix has no operations with a positive weight");
+    }
+    return mix;
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got " + arg);
+      }
+      int split = arg.indexOf('=');
+      options.put(arg.substring(2, split), arg.substring(split + 1));
+    }
+    return options;
+  }
+
+  static final class Stats {
+    private long[] latencies = new long[1024];
+    private long[] sqlCounts = new long[1024];
+    private int count;
+    private int sqlCount;
+    private long errors;
+    private long unavailable;
+
+    void record(long nanos, int status, long statements) {
+      if (status == 503) {
+        unavailable++;
+      } else if (status < 200 || status >= 300) {
+        errors++;
+      }
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = nanos;
+      if (statements >= 0) {
+        if (sqlCount == sqlCounts.length) {
+          sqlCounts = Arrays.copyOf(sqlCounts, sqlCount * 2);
+        }
+        sqlCounts[sqlCount++] = statements;
+      }
+    }
+
+    void merge(Stats other) {
+      latencies = append(latencies, count, other.latencies, other.count);
+      count += other.count;
+      sqlCounts = append(sqlCounts, sqlCount, other.sqlCounts, other.sqlCount);
+      sqlCount += other.sqlCount;
+      errors += other.errors;
+      unavailable += other.unavailable;
+    }
+
+    long[] sortedLatencies() {
+      long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      return sorted;
+    }
+
+    long[] sortedSqlCounts() {
+      long[] sorted = Arrays.copyOf(sqlCounts, sqlCount);
+      Arrays.sort(sorted);
+      return sorted;
+    }
+
+    private static long[] append(long[] target, int used, long[] source, int length) {
+      long[] result = used + length > target.length ? Arrays.copyOf(target, used + length) : target;
+      System.arraycopy(source, 0, result, used, length);
+      return result;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.freelaconnect.api.search;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Directory search and filtering as run by {@code ClientService.browseFreelancers} when a search
+ * term or skill is given, over a synthetic directory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FreelancerSearchBenchmark {
+  private static final String[] FIRST_NAMES = {
+    "Alice", "Bruno", "Chen", "Divya", "Emeka", "Fatima", "Goran", "Hana", "Ines", "Jamal"
+  };
+  private static final String[] LAST_NAMES = {
+    "Smith", "Silva", "Wang", "Patel", "Okafor", "Haddad", "Novak", "Sato", "Garcia", "Reed"
+  };
+  private static final String[] SKILLS = {
+    "Java", "Spring", "React", "Figma", "Photoshop", "Premiere", "Python", "SQL", "Go", "Rust",
+    "Illustrator", "After Effects", "Kotlin", "Swift", "Tutoring"
+  };
+  private static final String[] CATEGORIES = {
+    "Designers", "Developers / Coders", "Tutors", "Video Editors", "Photo Editor"
+  };
+
+  @Param({"10000"})
+  public int freelancers;
+
+  private FreelancerSearchIndex index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    index = new FreelancerSearchIndex();
+    for (int i = 1; i <= freelancers; i++) {
+      String skills =
+          SKILLS[random.nextInt(SKILLS.length)] + ", " + SKILLS[random.nextInt(SKILLS.length)];
+      index.index(
+          new IndexedFreelancer(
+              (long) i,
+              FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+                  + " "
+                  + LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+              skills,
+              "Freelancer working with " + skills + " for clients around the world.",
+              List.of(CATEGORIES[random.nextInt(CATEGORIES.length)])));
+    }
+    index.markReady();
+  }
+
+  @Benchmark
+  public List<FreelancerSearchIndex.Hit> searchTerms() {
+    return index.search("react developer", null, null, 1000);
+  }
+
+  @Benchmark
+  public List<FreelancerSearchIndex.Hit> searchPrefix() {
+    return index.search("phot", null, null, 1000);
+  }
+
+  @Benchmark
+  public List<FreelancerSearchIndex.Hit> skillAndCategoryFilter() {
+    return index.search(null, "figma", "Designers", 1000);
+  }
+
+  @Benchmark
+  public List<FreelancerSearchIndex.Hit> searchWithFilters() {
+    return index.search("silva", "java", "Developers / Coders", 1000);
+  }
+}
@@ -0,0 +1,77 @@
+package com.freelaconnect.api.security;
+
+import com.freelaconnect.api.model.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request cost of authenticating a bearer token. {@code legacyDoubleParse} reproduces the
+ * previous filter, which built a new parser and verified the signature once in {@code
+ * validateToken} and again when reading the subject.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+  private static final String SECRET = "benchmark-secret-that-is-long-enough-for-hs256";
+  private static final long EXPIRATION_MS = TimeUnit.HOURS.toMillis(1);
+
+  private Key key;
+  private JwtTokenProvider uncachedProvider;
+  private JwtTokenProvider cachedProvider;
+  private String token;
+  private UserPrincipal principal;
+
+  @Setup
+  public void setUp() {
+    key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    uncachedProvider = new JwtTokenProvider(SECRET, EXPIRATION_MS, 0, new SimpleMeterRegistry());
+    cachedProvider =
+        new JwtTokenProvider(SECRET, EXPIRATION_MS, 10_000, new SimpleMeterRegistry());
+    principal = new UserPrincipal(42L, "bench@example.com", null, Role.FREELANCER);
+    token = cachedProvider.generateToken(principal);
+    cachedProvider.verify(token);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return uncachedProvider.generateToken(principal);
+  }
+
+  @Benchmark
+  public String legacyDoubleParse() {
+    Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody()
+        .getSubject();
+  }
+
+  @Benchmark
+  public UserPrincipal singlePassVerify() {
+    Claims claims = uncachedProvider.verify(token);
+    return uncachedProvider.toPrincipal(claims);
+  }
+
+  @Benchmark
+  public UserPrincipal cachedVerify() {
+    Claims claims = cachedProvider.verify(token);
+    return cachedProvider.toPrincipal(claims);
+  }
+}
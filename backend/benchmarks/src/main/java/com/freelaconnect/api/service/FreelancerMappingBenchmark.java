@@ -0,0 +1,179 @@
+package com.freelaconnect.api.service;
+
+import com.freelaconnect.api.dto.FreelancerDtos.FreelancerDetails;
+import com.freelaconnect.api.dto.FreelancerDtos.FreelancerSummary;
+import com.freelaconnect.api.model.Category;
+import com.freelaconnect.api.model.Freelancer;
+import com.freelaconnect.api.model.FreelancerRating;
+import com.freelaconnect.api.repository.FreelancerRatingRepository;
+import com.freelaconnect.api.repository.FreelancerRepository.SummaryRow;
+import com.freelaconnect.api.repository.ReviewRepository;
+import com.freelaconnect.api.repository.ReviewRepository.ReviewRow;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Row-to-DTO mapping for directory pages and profile pages. Repositories are replaced by
+ * in-memory stubs so only the mapping work is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FreelancerMappingBenchmark {
+  @Param({"20"})
+  public int pageSize;
+
+  @Param({"10"})
+  public int reviewsPerFreelancer;
+
+  private FreelancerService service;
+  private List<SummaryRow> page;
+  private List<String> categories;
+  private Freelancer profile;
+  private FreelancerRating rating;
+
+  @Setup
+  public void setUp() {
+    rating = new FreelancerRating(1L);
+    for (int i = 0; i < 40; i++) {
+      rating.record(1 + i % 5, Instant.EPOCH);
+    }
+    List<ReviewRow> reviews = new ArrayList<>();
+    for (int i = 0; i < reviewsPerFreelancer; i++) {
+      reviews.add(new Review((long) i, 1 + i % 5, "Delivered on time, would hire again #" + i));
+    }
+    ReviewRepository reviewRepository =
+        Stubs.of(ReviewRepository.class, Map.of("findReviewRows", args -> reviews));
+    FreelancerRatingRepository ratingRepository =
+        Stubs.of(
+            FreelancerRatingRepository.class, Map.of("findById", args -> Optional.of(rating)));
+    FreelancerRatingService ratingService =
+        new FreelancerRatingService(ratingRepository, null, reviewRepository, null, null);
+    service =
+        new FreelancerService(
+            null, null, null, null, reviewRepository, ratingService, null, null, null);
+
+    categories = List.of("Developers / Coders", "Tutors");
+    page = new ArrayList<>();
+    for (int i = 0; i < pageSize; i++) {
+      page.add(new Summary((long) i, "Freelancer " + i, "/api/photos/" + Integer.toHexString(i)));
+    }
+    profile = freelancer(0);
+  }
+
+  @Benchmark
+  public void mapSummaryPage(Blackhole blackhole) {
+    for (SummaryRow row : page) {
+      FreelancerSummary summary = service.mapSummary(row, categories, rating);
+      blackhole.consume(summary);
+    }
+  }
+
+  @Benchmark
+  public FreelancerDetails mapDetails() {
+    return service.mapDetails(profile);
+  }
+
+  private static Freelancer freelancer(int i) {
+    Category developers = new Category();
+    developers.setId(1L);
+    developers.setName("Developers / Coders");
+    Category tutors = new Category();
+    tutors.setId(2L);
+    tutors.setName("Tutors");
+    Freelancer freelancer = new Freelancer();
+    freelancer.setId((long) i);
+    freelancer.setFullName("Freelancer " + i);
+    freelancer.setSkills("Java, Spring Boot, React, SQL");
+    freelancer.setBio("Full-stack developer with ten years of experience building web apps.");
+    freelancer.setCategories(Set.of(developers, tutors));
+    freelancer.setProfilePhotoUrl("/api/photos/" + Integer.toHexString(i));
+    freelancer.setContactEmail("freelancer" + i + "@example.com");
+    return freelancer;
+  }
+
+  // Stand-ins for the projections Spring Data returns.
+  private static final class Summary implements SummaryRow {
+    private final Long id;
+    private final String fullName;
+    private final String profilePhotoUrl;
+
+    Summary(Long id, String fullName, String profilePhotoUrl) {
+      this.id = id;
+      this.fullName = fullName;
+      this.profilePhotoUrl = profilePhotoUrl;
+    }
+
+    @Override
+    public Long getId() {
+      return id;
+    }
+
+    @Override
+    public String getFullName() {
+      return fullName;
+    }
+
+    @Override
+    public String getSkills() {
+      return "Java, Spring Boot, React, SQL";
+    }
+
+    @Override
+    public String getProfilePhotoUrl() {
+      return profilePhotoUrl;
+    }
+  }
+
+  private static final class Review implements ReviewRow {
+    private final Long id;
+    private final Integer rating;
+    private final String comment;
+
+    Review(Long id, Integer rating, String comment) {
+      this.id = id;
+      this.rating = rating;
+      this.comment = comment;
+    }
+
+    @Override
+    public Long getId() {
+      return id;
+    }
+
+    @Override
+    public Integer getRating() {
+      return rating;
+    }
+
+    @Override
+    public String getComment() {
+      return comment;
+    }
+
+    @Override
+    public String getClientName() {
+      return "Benchmark Client";
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.freelaconnect.api.service;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/** Builds repository stand-ins that answer named methods and fail on anything else. */
+final class Stubs {
+  private Stubs() {}
+
+  static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+    Object proxy =
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (self, method, args) -> {
+              if (method.getDeclaringClass() == Object.class) {
+                return method.getName().equals("toString") ? type.getSimpleName() + "Stub" : null;
+              }
+              Function<Object[], Object> answer = answers.get(method.getName());
+              if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+              }
+              return answer.apply(args);
+            });
+    return type.cast(proxy);
+  }
+}
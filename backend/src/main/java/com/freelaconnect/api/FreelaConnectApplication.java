@@ -1,7 +1,6 @@
 package com.freelaconnect.api;
 
-import com.freelaconnect.api.model.Category;
-import com.freelaconnect.api.repository.CategoryRepository;
+import com.freelaconnect.api.service.CategoryRegistry;
 import java.util.List;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
@@ -16,16 +15,11 @@ public class FreelaConnectApplication {
   }
 
   @Bean
-  CommandLineRunner seedCategories(CategoryRepository categoryRepository) {
+  CommandLineRunner seedCategories(CategoryRegistry categoryRegistry) {
     return args -> {
-      if (categoryRepository.count() == 0) {
-        List<String> names =
-            List.of("Designers", "Developers / Coders", "Tutors", "Video Editors", "Photo Editor");
-        for (String name : names) {
-          Category category = new Category();
-          category.setName(name);
-          categoryRepository.save(category);
-        }
+      if (categoryRegistry.getAll().isEmpty()) {
+        categoryRegistry.resolve(
+            List.of("Designers", "Developers / Coders", "Tutors", "Video Editors", "Photo Editor"));
       }
     };
   }
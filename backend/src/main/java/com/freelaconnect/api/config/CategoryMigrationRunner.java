@@ -1,5 +1,6 @@
 package com.freelaconnect.api.config;
 
+import jakarta.persistence.EntityManagerFactory;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
@@ -13,7 +14,8 @@ import org.springframework.jdbc.core.JdbcTemplate;
 public class CategoryMigrationRunner {
 
   @Bean
-  public ApplicationRunner backfillFreelancerCategories(DataSource dataSource) {
+  public ApplicationRunner backfillFreelancerCategories(
+      DataSource dataSource, EntityManagerFactory entityManagerFactory) {
     return args -> {
       try (Connection connection = dataSource.getConnection()) {
         DatabaseMetaData meta = connection.getMetaData();
@@ -35,6 +37,7 @@ public class CategoryMigrationRunner {
                 + "  where fc.freelancer_id = f.id and fc.category_id = f.category_id"
                 + ")";
         jdbc.update(sql);
+        entityManagerFactory.getCache().evictAll();
       }
     };
   }
@@ -0,0 +1,68 @@
+package com.freelaconnect.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.ToLongFunction;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hit ratios of the second-level, natural-id and query caches as {@code hibernate.cache.hit.ratio}.
+ * Spring Boot already publishes the per-region hit and miss counters these are derived from.
+ */
+@Configuration
+@ConditionalOnProperty(
+    name = "spring.jpa.properties.hibernate.generate_statistics",
+    havingValue = "true")
+public class HibernateCacheMetrics {
+
+  @Bean
+  public MeterBinder hibernateCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    return registry -> {
+      // Entities and collections.
+      register(
+          registry,
+          "entities",
+          statistics,
+          Statistics::getSecondLevelCacheHitCount,
+          Statistics::getSecondLevelCacheMissCount);
+      register(
+          registry,
+          "natural-ids",
+          statistics,
+          Statistics::getNaturalIdCacheHitCount,
+          Statistics::getNaturalIdCacheMissCount);
+      register(
+          registry,
+          "queries",
+          statistics,
+          Statistics::getQueryCacheHitCount,
+          Statistics::getQueryCacheMissCount);
+    };
+  }
+
+  private static void register(
+      MeterRegistry registry,
+      String cache,
+      Statistics statistics,
+      ToLongFunction<Statistics> hits,
+      ToLongFunction<Statistics> misses) {
+    Gauge.builder(
+            "hibernate.cache.hit.ratio",
+            statistics,
+            s -> {
+              long hit = hits.applyAsLong(s);
+              long total = hit + misses.applyAsLong(s);
+              return total == 0 ? Double.NaN : (double) hit / total;
+            })
+        .tag("cache", cache)
+        .description("Share of cache lookups answered without the database since startup")
+        .register(registry);
+  }
+}
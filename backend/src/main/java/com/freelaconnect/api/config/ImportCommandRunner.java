@@ -0,0 +1,68 @@
+package com.freelaconnect.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelaconnect.api.dto.ImportDtos.ImportResult;
+import com.freelaconnect.api.dto.ImportDtos.RejectedRow;
+import com.freelaconnect.api.service.BulkImportService;
+import com.freelaconnect.api.service.ImportRecordReader;
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Command-line import: imports {@code app.import.file} as {@code app.import.type}, writes any
+ * rejected rows next to the file as {@code <file>.rejected.ndjson}, and exits. The exit code is 0
+ * when every row imported and 2 when some were rejected.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.import.file")
+public class ImportCommandRunner {
+  private static final Logger log = LoggerFactory.getLogger(ImportCommandRunner.class);
+
+  @Bean
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  public ApplicationRunner importFromFile(
+      BulkImportService importService,
+      ObjectMapper objectMapper,
+      ConfigurableApplicationContext context,
+      @Value("${app.import.file}") String file,
+      @Value("${app.import.type:}") String type) {
+    return args -> {
+      Path path = Paths.get(file);
+      ImportResult result;
+      try (InputStream input = Files.newInputStream(path)) {
+        ImportRecordReader reader =
+            new ImportRecordReader(
+                input, ImportRecordReader.formatFor(null, path.toString()), objectMapper);
+        result = importService.importRecords(type, reader, Integer.MAX_VALUE);
+      }
+      if (result.getRejectedCount() > 0) {
+        Path rejectedFile = Paths.get(path + ".rejected.ndjson");
+        try (BufferedWriter writer =
+            Files.newBufferedWriter(rejectedFile, StandardCharsets.UTF_8)) {
+          for (RejectedRow row : result.getRejected()) {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.newLine();
+          }
+        }
+        log.warn("{} rows rejected, see {}", result.getRejectedCount(), rejectedFile);
+      }
+      int exitCode = result.getRejectedCount() == 0 ? 0 : 2;
+      System.exit(SpringApplication.exit(context, () -> exitCode));
+    };
+  }
+}
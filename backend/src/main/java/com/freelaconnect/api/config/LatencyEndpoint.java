@@ -0,0 +1,95 @@
+package com.freelaconnect.api.config;
+
+import com.freelaconnect.api.dto.MetricsDtos.ExceptionCount;
+import com.freelaconnect.api.dto.MetricsDtos.LatencyReport;
+import com.freelaconnect.api.dto.MetricsDtos.TimerLatency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/latency[?name=prefix]}: count, total, percentiles and max of every timer in
+ * {@code app.metrics.timers}, slowest total first within each name, plus exception counts.
+ */
+@Component
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+  private final MeterRegistry meterRegistry;
+  private final List<String> timers;
+
+  public LatencyEndpoint(
+      MeterRegistry meterRegistry, @Value("${app.metrics.timers}") List<String> timers) {
+    this.meterRegistry = meterRegistry;
+    this.timers = timers;
+  }
+
+  @ReadOperation
+  public LatencyReport latency(@Nullable String name) {
+    List<TimerLatency> latencies = new ArrayList<>();
+    List<ExceptionCount> exceptions = new ArrayList<>();
+    for (Meter meter : meterRegistry.getMeters()) {
+      String meterName = meter.getId().getName();
+      if (name != null && !meterName.startsWith(name)) {
+        continue;
+      }
+      if (meter instanceof Timer && timers.stream().anyMatch(meterName::startsWith)) {
+        latencies.add(toLatency((Timer) meter));
+      } else if (meter instanceof Counter && meterName.equals("http.server.exceptions")) {
+        exceptions.add(
+            new ExceptionCount(
+                meter.getId().getTag("exception"),
+                meter.getId().getTag("uri"),
+                (long) ((Counter) meter).count()));
+      }
+    }
+    latencies.sort(
+        Comparator.comparing(TimerLatency::getName)
+            .thenComparing(Comparator.comparingDouble(TimerLatency::getTotalMs).reversed()));
+    exceptions.sort(Comparator.comparingLong(ExceptionCount::getCount).reversed());
+    return new LatencyReport(latencies, exceptions);
+  }
+
+  private static TimerLatency toLatency(Timer timer) {
+    HistogramSnapshot snapshot = timer.takeSnapshot();
+    Map<String, String> tags = new LinkedHashMap<>();
+    for (Tag tag : timer.getId().getTags()) {
+      tags.put(tag.getKey(), tag.getValue());
+    }
+    Map<String, Double> percentiles = new LinkedHashMap<>();
+    for (ValueAtPercentile value : snapshot.percentileValues()) {
+      percentiles.put(label(value.percentile()), millis(value.value(TimeUnit.MILLISECONDS)));
+    }
+    return new TimerLatency(
+        timer.getId().getName(),
+        tags,
+        snapshot.count(),
+        millis(snapshot.total(TimeUnit.MILLISECONDS)),
+        percentiles,
+        millis(snapshot.max(TimeUnit.MILLISECONDS)));
+  }
+
+  // 0.5 -> p50, 0.999 -> p99.9
+  private static String label(double percentile) {
+    String label = String.valueOf(Math.round(percentile * 1000) / 10.0);
+    return "p" + (label.endsWith(".0") ? label.substring(0, label.length() - 2) : label);
+  }
+
+  private static double millis(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+}
@@ -0,0 +1,98 @@
+package com.freelaconnect.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
+import org.springframework.boot.actuate.autoconfigure.metrics.PropertiesAutoTimer;
+import org.springframework.boot.actuate.metrics.data.MetricsRepositoryMethodInvocationListener;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Latency percentiles for the timers in {@code app.metrics.timers}: requests, services, repository
+ * queries, serialization, connection-pool waits and JWT checks. Micrometer keeps them in rolling
+ * HdrHistogram windows; {@code /actuator/latency} lists them.
+ */
+@Configuration
+public class LatencyMetricsConfig implements WebMvcConfigurer {
+  private final MeterRegistry meterRegistry;
+
+  public LatencyMetricsConfig(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  // Static: the registry applies MeterFilter beans while it is being created.
+  @Bean
+  public static MeterFilter latencyPercentiles(
+      @Value("${app.metrics.percentiles}") double[] percentiles,
+      @Value("${app.metrics.timers}") List<String> timers) {
+    return new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(
+          Meter.Id id, DistributionStatisticConfig config) {
+        if (percentiles.length == 0
+            || id.getType() != Meter.Type.TIMER
+            || timers.stream().noneMatch(id.getName()::startsWith)) {
+          return config;
+        }
+        return DistributionStatisticConfig.builder().percentiles(percentiles).build().merge(config);
+      }
+    };
+  }
+
+  // Replaces Spring Boot's listener for spring.data.repository.invocations to apply sampling.
+  @Bean
+  public MetricsRepositoryMethodInvocationListener metricsRepositoryMethodInvocationListener(
+      ObjectProvider<MeterRegistry> registry,
+      RepositoryTagsProvider tagsProvider,
+      MetricsProperties properties,
+      MetricsSampler sampler) {
+    MetricsProperties.Data.Repository repository = properties.getData().getRepository();
+    return new MetricsRepositoryMethodInvocationListener(
+        registry::getObject,
+        tagsProvider,
+        repository.getMetricName(),
+        new PropertiesAutoTimer(repository.getAutotime())) {
+      @Override
+      public void afterInvocation(RepositoryMethodInvocation invocation) {
+        if (sampler.sample()) {
+          super.afterInvocation(invocation);
+        }
+      }
+    };
+  }
+
+  // Replaces Spring Boot's JSON converter.
+  @Bean
+  public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(
+      ObjectMapper objectMapper, MetricsSampler sampler) {
+    return new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry, sampler);
+  }
+
+  // Ahead of the other resolvers, so exceptions the controller advice turns into responses count.
+  @Override
+  public void extendHandlerExceptionResolvers(List<HandlerExceptionResolver> resolvers) {
+    resolvers.add(
+        0,
+        (request, response, handler, ex) -> {
+          Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+          Counter.builder("http.server.exceptions")
+              .tag("exception", ex.getClass().getSimpleName())
+              .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+              .register(meterRegistry)
+              .increment();
+          return null;
+        });
+  }
+}
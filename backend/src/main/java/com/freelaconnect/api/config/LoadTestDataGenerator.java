@@ -0,0 +1,423 @@
+package com.freelaconnect.api.config;
+
+import com.freelaconnect.api.model.Category;
+import com.freelaconnect.api.service.CategoryRegistry;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Fills an empty database with a deterministic, production-shaped data set for load tests.
+ * Popularity follows Zipf distributions, so a few freelancers receive most requests and a few
+ * clients place most orders, and ratings lean towards four and five stars. Every generated account
+ * uses the password {@link #PASSWORD}, hashed once.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestDataGenerator {
+  public static final String PASSWORD = "loadtest";
+  private static final Logger log = LoggerFactory.getLogger(LoadTestDataGenerator.class);
+  private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+  private static final long SPAN_MINUTES = ChronoUnit.DAYS.getDuration().toMinutes() * 730;
+
+  private static final String[] CATEGORIES = {
+    "Designers", "Developers / Coders", "Tutors", "Video Editors", "Photo Editor",
+    "Copywriters", "Translators", "Marketing", "Data Analysts", "Mobile Developers",
+    "Illustrators", "Animators", "Voice Over", "Music Producers", "Virtual Assistants",
+    "Accountants", "Legal Advisors", "3D Artists", "Game Developers", "DevOps",
+    "QA Testers", "SEO Specialists", "Social Media", "UX Researchers", "Architects"
+  };
+  private static final String[] SKILLS = {
+    "Java", "Spring Boot", "React", "TypeScript", "Python", "SQL", "Figma", "Photoshop",
+    "Illustrator", "Premiere Pro", "After Effects", "Go", "Rust", "Kotlin", "Swift", "Flutter",
+    "Docker", "Kubernetes", "AWS", "Excel", "Blender", "Unity", "WordPress", "SEO", "Copywriting",
+    "Spanish", "French", "German", "Math tutoring", "Physics tutoring"
+  };
+  private static final String[] FIRST_NAMES = {
+    "Alice", "Bruno", "Chen", "Divya", "Emeka", "Fatima", "Goran", "Hana", "Ines", "Jamal",
+    "Kofi", "Lena", "Mateo", "Nadia", "Omar", "Priya", "Quinn", "Rosa", "Sven", "Tariq",
+    "Uma", "Victor", "Wen", "Ximena", "Yusuf", "Zara"
+  };
+  private static final String[] LAST_NAMES = {
+    "Smith", "Silva", "Wang", "Patel", "Okafor", "Haddad", "Novak", "Sato", "Garcia", "Reed",
+    "Kowalski", "Nguyen", "M\u00fcller", "Rossi", "Ivanova", "Mensah", "Costa", "Dubois", "Kim",
+    "Andersen", "Cohen", "Fern\u00e1ndez", "Yilmaz", "Berg", "Osei"
+  };
+  private static final String[] REQUEST_TYPES = {
+    "Logo design", "Website", "Mobile app", "Tutoring session", "Video edit", "Photo retouch",
+    "Translation", "Consulting"
+  };
+  private static final String[] DURATIONS = {"1 day", "3 days", "1 week", "2 weeks", "1 month"};
+
+  @Bean
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public ApplicationRunner generateLoadTestData(
+      DataSource dataSource,
+      CategoryRegistry categoryRegistry,
+      PasswordEncoder passwordEncoder,
+      @Value("${app.loadtest.seed}") long seed,
+      @Value("${app.loadtest.freelancers}") int freelancers,
+      @Value("${app.loadtest.clients}") int clients,
+      @Value("${app.loadtest.requests}") int requests,
+      @Value("${app.loadtest.projects}") int projects,
+      @Value("${app.loadtest.review-rate}") double reviewRate,
+      @Value("${app.loadtest.batch-size}") int batchSize) {
+    return args -> {
+      JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+      Integer existing =
+          jdbc.queryForObject(
+              "select count(*) from users where email like 'gen-%@load.test'", Integer.class);
+      if (existing != null && existing > 0) {
+        log.info("Load test data already present ({} generated users), skipping", existing);
+        return;
+      }
+      long start = System.nanoTime();
+      Generator generator =
+          new Generator(jdbc, new Random(seed), batchSize, passwordEncoder.encode(PASSWORD));
+      generator.categories(categoryRegistry);
+      generator.freelancers(freelancers);
+      generator.clients(clients);
+      generator.requests(requests);
+      generator.projects(projects, reviewRate);
+      if (isH2(dataSource)) {
+        generator.restartIdentities();
+      }
+      log.info(
+          "Generated {} freelancers, {} clients, {} requests and {} projects in {} s",
+          freelancers,
+          clients,
+          requests,
+          projects,
+          (System.nanoTime() - start) / 1_000_000_000L);
+    };
+  }
+
+  private static boolean isH2(DataSource dataSource) throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      return "H2".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+    }
+  }
+
+  private static final class Generator {
+    private final JdbcTemplate jdbc;
+    private final Random random;
+    private final int batchSize;
+    private final String passwordHash;
+    private long[] categoryIds;
+    private ZipfSampler categoryPopularity;
+    private ZipfSampler skillPopularity;
+    private long nextUserId;
+    private long firstFreelancerId;
+    private int freelancerCount;
+    private long firstClientId;
+    private int clientCount;
+    private long nextRequestId;
+    private long nextProjectId;
+    private long nextReviewId;
+    // Per-freelancer quality bucket, used to skew that freelancer's ratings.
+    private byte[] quality;
+
+    Generator(JdbcTemplate jdbc, Random random, int batchSize, String passwordHash) {
+      this.jdbc = jdbc;
+      this.random = random;
+      this.batchSize = batchSize;
+      this.passwordHash = passwordHash;
+      this.nextUserId = nextId("users");
+      this.firstFreelancerId = nextId("freelancers");
+      this.firstClientId = nextId("clients");
+      this.nextRequestId = nextId("project_requests");
+      this.nextProjectId = nextId("projects");
+      this.nextReviewId = nextId("reviews");
+      this.skillPopularity = new ZipfSampler(SKILLS.length, 1.0);
+    }
+
+    void categories(CategoryRegistry categoryRegistry) {
+      Set<Category> categories = categoryRegistry.resolve(Arrays.asList(CATEGORIES));
+      categoryIds = categories.stream().mapToLong(Category::getId).sorted().toArray();
+      categoryPopularity = new ZipfSampler(categoryIds.length, 1.2);
+    }
+
+    void freelancers(int count) {
+      freelancerCount = count;
+      quality = new byte[count];
+      Batch users = new Batch(userInsert());
+      Batch freelancers =
+          new Batch(
+              "insert into freelancers (id, user_id, full_name, bio, skills, contact_email, "
+                  + "revision, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?)");
+      Batch links =
+          new Batch("insert into freelancer_categories (freelancer_id, category_id) values (?, ?)");
+      for (int i = 0; i < count; i++) {
+        long userId = nextUserId++;
+        long freelancerId = firstFreelancerId + i;
+        String email = "gen-freelancer-" + i + "@load.test";
+        Timestamp joined = timestamp();
+        users.add(userId, email, passwordHash, "FREELANCER", true, joined);
+        String skills = skills();
+        freelancers.add(
+            freelancerId,
+            userId,
+            name(),
+            "Freelancer specialising in " + skills + ". Available for remote work.",
+            skills,
+            email,
+            0L,
+            joined);
+        for (long categoryId : pickCategories()) {
+          links.add(freelancerId, categoryId);
+        }
+        int roll = random.nextInt(10);
+        quality[i] = (byte) (roll < 6 ? 2 : roll < 9 ? 1 : 0);
+        if (users.isFull()) {
+          users.flush();
+          freelancers.flush();
+          links.flush();
+        }
+      }
+      users.flush();
+      freelancers.flush();
+      links.flush();
+      log.info("Generated {} freelancers", count);
+    }
+
+    void clients(int count) {
+      clientCount = count;
+      Batch users = new Batch(userInsert());
+      Batch clients =
+          new Batch("insert into clients (id, user_id, full_name, company) values (?, ?, ?, ?)");
+      for (int i = 0; i < count; i++) {
+        long userId = nextUserId++;
+        String email = "gen-client-" + i + "@load.test";
+        users.add(userId, email, passwordHash, "CLIENT", true, timestamp());
+        clients.add(
+            firstClientId + i,
+            userId,
+            name(),
+            random.nextInt(10) < 3 ? null : LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " Ltd");
+        if (users.isFull()) {
+          users.flush();
+          clients.flush();
+        }
+      }
+      users.flush();
+      clients.flush();
+      log.info("Generated {} clients", count);
+    }
+
+    void requests(int count) {
+      ZipfSampler freelancerPopularity = new ZipfSampler(freelancerCount, 1.1);
+      ZipfSampler clientActivity = new ZipfSampler(clientCount, 0.8);
+      Batch requests =
+          new Batch(
+              "insert into project_requests (id, client_id, freelancer_id, type, description, "
+                  + "duration, salary, status, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+      for (int i = 0; i < count; i++) {
+        int roll = random.nextInt(10);
+        String status = roll < 2 ? "PENDING" : roll < 7 ? "ACCEPTED" : "DECLINED";
+        String type = REQUEST_TYPES[random.nextInt(REQUEST_TYPES.length)];
+        requests.add(
+            nextRequestId++,
+            firstClientId + clientActivity.sample(random),
+            firstFreelancerId + freelancerPopularity.sample(random),
+            type,
+            "Looking for help with a " + type.toLowerCase() + ".",
+            DURATIONS[random.nextInt(DURATIONS.length)],
+            "$" + (50 + random.nextInt(40) * 25),
+            status,
+            timestamp());
+        if (requests.isFull()) {
+          requests.flush();
+        }
+      }
+      requests.flush();
+      log.info("Generated {} project requests", count);
+    }
+
+    void projects(int count, double reviewRate) {
+      ZipfSampler freelancerPopularity = new ZipfSampler(freelancerCount, 1.1);
+      ZipfSampler clientActivity = new ZipfSampler(clientCount, 0.8);
+      Batch projects =
+          new Batch(
+              "insert into projects (id, client_id, freelancer_id, title, description, "
+                  + "service_name, duration, salary, status, created_at, updated_at) "
+                  + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+      Batch reviews =
+          new Batch(
+              "insert into reviews (id, project_id, client_id, freelancer_id, rating, comment, "
+                  + "created_at) values (?, ?, ?, ?, ?, ?, ?)");
+      int reviewCount = 0;
+      for (int i = 0; i < count; i++) {
+        long projectId = nextProjectId++;
+        long clientId = firstClientId + clientActivity.sample(random);
+        int freelancerIndex = freelancerPopularity.sample(random);
+        long freelancerId = firstFreelancerId + freelancerIndex;
+        boolean completed = random.nextInt(10) < 7;
+        Timestamp createdAt = timestamp();
+        Timestamp updatedAt =
+            Timestamp.from(createdAt.toInstant().plus(1 + random.nextInt(45), ChronoUnit.DAYS));
+        String type = REQUEST_TYPES[random.nextInt(REQUEST_TYPES.length)];
+        projects.add(
+            projectId,
+            clientId,
+            freelancerId,
+            type + " #" + projectId,
+            "Project created from a " + type.toLowerCase() + " request.",
+            type,
+            DURATIONS[random.nextInt(DURATIONS.length)],
+            (double) (50 + random.nextInt(80) * 25),
+            completed ? "COMPLETED" : "IN_PROGRESS",
+            createdAt,
+            updatedAt);
+        if (completed && random.nextDouble() < reviewRate) {
+          int stars = stars(quality[freelancerIndex]);
+          reviews.add(
+              nextReviewId++,
+              projectId,
+              clientId,
+              freelancerId,
+              stars,
+              stars >= 4 ? "Great work, delivered on time." : "Okay, but needed revisions.",
+              updatedAt);
+          reviewCount++;
+        }
+        if (projects.isFull()) {
+          projects.flush();
+          reviews.flush();
+        }
+      }
+      projects.flush();
+      reviews.flush();
+      log.info("Generated {} projects and {} reviews", count, reviewCount);
+    }
+
+    void restartIdentities() {
+      restart("users", nextUserId);
+      restart("freelancers", firstFreelancerId + freelancerCount);
+      restart("clients", firstClientId + clientCount);
+      restart("project_requests", nextRequestId);
+      restart("projects", nextProjectId);
+      restart("reviews", nextReviewId);
+    }
+
+    private void restart(String table, long next) {
+      jdbc.execute("alter table " + table + " alter column id restart with " + next);
+    }
+
+    private long nextId(String table) {
+      Long max = jdbc.queryForObject("select max(id) from " + table, Long.class);
+      return max == null ? 1 : max + 1;
+    }
+
+    private String userInsert() {
+      return "insert into users (id, email, password, role, enabled, created_at) "
+          + "values (?, ?, ?, ?, ?, ?)";
+    }
+
+    private String name() {
+      return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+          + " "
+          + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private String skills() {
+      Set<String> picked = new LinkedHashSet<>();
+      int wanted = 2 + random.nextInt(3);
+      while (picked.size() < wanted) {
+        picked.add(SKILLS[skillPopularity.sample(random)]);
+      }
+      return String.join(", ", picked);
+    }
+
+    private Set<Long> pickCategories() {
+      Set<Long> picked = new LinkedHashSet<>();
+      int wanted = 1 + random.nextInt(3);
+      while (picked.size() < wanted) {
+        picked.add(categoryIds[categoryPopularity.sample(random)]);
+      }
+      return picked;
+    }
+
+    private int stars(byte quality) {
+      int roll = random.nextInt(100);
+      if (quality == 2) {
+        return roll < 70 ? 5 : roll < 92 ? 4 : roll < 97 ? 3 : roll < 99 ? 2 : 1;
+      }
+      if (quality == 1) {
+        return roll < 30 ? 5 : roll < 65 ? 4 : roll < 85 ? 3 : roll < 95 ? 2 : 1;
+      }
+      return roll < 10 ? 5 : roll < 25 ? 4 : roll < 50 ? 3 : roll < 75 ? 2 : 1;
+    }
+
+    private Timestamp timestamp() {
+      long minutes = (long) (random.nextDouble() * SPAN_MINUTES);
+      return Timestamp.from(EPOCH.plus(minutes, ChronoUnit.MINUTES));
+    }
+
+    private final class Batch {
+      private final String sql;
+      private final List<Object[]> rows = new ArrayList<>();
+
+      Batch(String sql) {
+        this.sql = sql;
+      }
+
+      // Callers flush parent batches before child batches so foreign keys always resolve.
+      void add(Object... row) {
+        rows.add(row);
+      }
+
+      boolean isFull() {
+        return rows.size() >= batchSize;
+      }
+
+      void flush() {
+        if (!rows.isEmpty()) {
+          jdbc.batchUpdate(sql, rows);
+          rows.clear();
+        }
+      }
+    }
+  }
+
+  /** Samples ranks {@code 0..n-1} with probability proportional to {@code 1 / (rank + 1)^s}. */
+  private static final class ZipfSampler {
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double s) {
+      cumulative = new double[n];
+      double total = 0;
+      for (int rank = 0; rank < n; rank++) {
+        total += 1.0 / Math.pow(rank + 1, s);
+        cumulative[rank] = total;
+      }
+      for (int rank = 0; rank < n; rank++) {
+        cumulative[rank] /= total;
+      }
+    }
+
+    int sample(Random random) {
+      int index = Arrays.binarySearch(cumulative, random.nextDouble());
+      int rank = index >= 0 ? index : -index - 1;
+      return Math.min(rank, cumulative.length - 1);
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.freelaconnect.api.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks the service, repository and serialization calls that get timed. Sampled timers count only
+ * the calls they recorded; latencies stay representative.
+ */
+@Component
+public class MetricsSampler {
+  private final double rate;
+
+  public MetricsSampler(@Value("${app.metrics.sample-rate}") double rate) {
+    if (rate < 0 || rate > 1) {
+      throw new IllegalArgumentException("app.metrics.sample-rate must be between 0 and 1");
+    }
+    this.rate = rate;
+  }
+
+  public boolean sample() {
+    return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+}
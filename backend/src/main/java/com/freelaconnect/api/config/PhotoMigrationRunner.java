@@ -0,0 +1,65 @@
+package com.freelaconnect.api.config;
+
+import com.freelaconnect.api.service.PhotoStore;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class PhotoMigrationRunner {
+  private static final Logger log = LoggerFactory.getLogger(PhotoMigrationRunner.class);
+  private static final int BATCH_SIZE = 50;
+
+  @Bean
+  public ApplicationRunner moveInlinePhotosToStore(
+      DataSource dataSource, PhotoStore photoStore, EntityManagerFactory entityManagerFactory) {
+    return args -> {
+      JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+      int moved = migrate(jdbc, photoStore, "freelancers") + migrate(jdbc, photoStore, "clients");
+      if (moved > 0) {
+        // Profiles cached before the JDBC updates still hold the data URLs.
+        entityManagerFactory.getCache().evictAll();
+      }
+    };
+  }
+
+  private int migrate(JdbcTemplate jdbc, PhotoStore photoStore, String table) {
+    long lastId = 0;
+    int moved = 0;
+    while (true) {
+      List<Map<String, Object>> rows =
+          jdbc.queryForList(
+              "select id, profile_photo_url from "
+                  + table
+                  + " where profile_photo_url like 'data:%' and id > ? order by id limit "
+                  + BATCH_SIZE,
+              lastId);
+      if (rows.isEmpty()) {
+        break;
+      }
+      for (Map<String, Object> row : rows) {
+        long id = ((Number) row.get("id")).longValue();
+        lastId = id;
+        try {
+          String reference =
+              PhotoStore.URL_PREFIX + photoStore.storeDataUrl((String) row.get("profile_photo_url"));
+          jdbc.update("update " + table + " set profile_photo_url = ? where id = ?", reference, id);
+          moved++;
+        } catch (IllegalArgumentException ex) {
+          log.warn("Skipping inline photo for {} {}: {}", table, id, ex.getMessage());
+        }
+      }
+    }
+    if (moved > 0) {
+      log.info("Moved {} inline profile photos from {} to the photo store", moved, table);
+    }
+    return moved;
+  }
+}
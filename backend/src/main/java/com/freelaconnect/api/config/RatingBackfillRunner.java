@@ -0,0 +1,26 @@
+package com.freelaconnect.api.config;
+
+import com.freelaconnect.api.repository.ReviewRepository;
+import com.freelaconnect.api.service.RatingRebuildJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RatingBackfillRunner {
+
+  // Builds rollups for reviewed freelancers that have none yet, or whose rollup predates the
+  // last-review timestamp and day buckets. app.ratings.rebuild-all recomputes every rollup.
+  @Bean
+  public ApplicationRunner backfillFreelancerRatings(
+      ReviewRepository reviewRepository,
+      RatingRebuildJob rebuildJob,
+      @Value("${app.ratings.rebuild-all}") boolean rebuildAll) {
+    return args ->
+        rebuildJob.rebuild(
+            rebuildAll
+                ? reviewRepository.findReviewedFreelancerIds()
+                : reviewRepository.findFreelancerIdsWithStaleRatings());
+  }
+}
@@ -0,0 +1,139 @@
+package com.freelaconnect.api.config;
+
+import com.freelaconnect.api.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica pools in turn and everything else to the primary.
+ * A user whose transaction committed on the primary keeps reading from it for the read-your-writes
+ * window, so the next page they load does not miss the write on a lagging replica. Must sit behind
+ * a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction is
+ * only marked read-only after it has asked for its connection.
+ *
+ * <p>Replicas are only used once {@link #useReplicas()} is called when startup has finished:
+ * migrations and backfills read what they are about to write.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+  private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+  private static final String PRIMARY = "primary";
+
+  private final HikariDataSource primary;
+  private final List<HikariDataSource> replicas;
+  private final AtomicInteger next = new AtomicInteger();
+  private volatile boolean replicasInUse;
+  // Null when the window is zero.
+  private final Cache<Long, Boolean> recentWriters;
+
+  public ReadWriteRoutingDataSource(
+      HikariDataSource primary, List<HikariDataSource> replicas, Duration readYourWritesWindow) {
+    this.primary = primary;
+    this.replicas = new ArrayList<>(replicas);
+    Map<Object, Object> targets = new LinkedHashMap<>();
+    targets.put(PRIMARY, primary);
+    for (HikariDataSource replica : replicas) {
+      targets.put(replica.getPoolName(), replica);
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    this.recentWriters =
+        readYourWritesWindow.isZero()
+            ? null
+            : Caffeine.newBuilder().expireAfterWrite(readYourWritesWindow).build();
+  }
+
+  public DataSource getPrimary() {
+    return primary;
+  }
+
+  public List<? extends DataSource> getReplicas() {
+    return replicas;
+  }
+
+  public void useReplicas() {
+    replicasInUse = true;
+  }
+
+  // Whether a read-only transaction of the current user would be sent to a replica.
+  public boolean readsFromReplica() {
+    if (!replicasInUse || replicas.isEmpty()) {
+      return false;
+    }
+    Long userId = currentUserId();
+    return userId == null || recentWriters == null || recentWriters.getIfPresent(userId) == null;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      rememberWriterOnCommit();
+      return PRIMARY;
+    }
+    if (!readsFromReplica()) {
+      return PRIMARY;
+    }
+    return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size())).getPoolName();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    DataSource target = determineTargetDataSource();
+    try {
+      return target.getConnection();
+    } catch (SQLException ex) {
+      if (target == primary) {
+        throw ex;
+      }
+      log.warn("Replica unavailable, reading from the primary: {}", ex.getMessage());
+      return primary.getConnection();
+    }
+  }
+
+  public void close() {
+    primary.close();
+    replicas.forEach(HikariDataSource::close);
+  }
+
+  private void rememberWriterOnCommit() {
+    Long userId = currentUserId();
+    if (userId == null
+        || recentWriters == null
+        || !TransactionSynchronizationManager.isActualTransactionActive()
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            recentWriters.put(userId, Boolean.TRUE);
+          }
+        });
+  }
+
+  private static Long currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
+      return ((UserPrincipal) authentication.getPrincipal()).getId();
+    }
+    return null;
+  }
+}
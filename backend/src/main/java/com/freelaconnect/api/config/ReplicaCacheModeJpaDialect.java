@@ -0,0 +1,59 @@
+package com.freelaconnect.api.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.sql.SQLException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Lets the sessions of read-only transactions bound for a replica read the second-level cache but
+ * not fill it. A replica lags the primary, and an entity or query result cached from it would be
+ * served to every later reader, primary or not, until evicted or expired.
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+  private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+
+  public ReplicaCacheModeJpaDialect(ObjectProvider<ReadWriteRoutingDataSource> routingDataSource) {
+    this.routingDataSource = routingDataSource;
+  }
+
+  @Override
+  public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+      throws PersistenceException, SQLException {
+    Object transactionData = super.beginTransaction(entityManager, definition);
+    if (!definition.isReadOnly() || !routingDataSource.getObject().readsFromReplica()) {
+      return transactionData;
+    }
+    Session session = getSession(entityManager);
+    CacheMode previousCacheMode = session.getCacheMode();
+    session.setCacheMode(CacheMode.GET);
+    return new ReplicaTransactionData(transactionData, session, previousCacheMode);
+  }
+
+  @Override
+  public void cleanupTransaction(Object transactionData) {
+    if (transactionData instanceof ReplicaTransactionData) {
+      ReplicaTransactionData data = (ReplicaTransactionData) transactionData;
+      data.session.setCacheMode(data.previousCacheMode);
+      super.cleanupTransaction(data.transactionData);
+      return;
+    }
+    super.cleanupTransaction(transactionData);
+  }
+
+  private static class ReplicaTransactionData {
+    private final Object transactionData;
+    private final Session session;
+    private final CacheMode previousCacheMode;
+
+    ReplicaTransactionData(Object transactionData, Session session, CacheMode previousCacheMode) {
+      this.transactionData = transactionData;
+      this.session = session;
+      this.previousCacheMode = previousCacheMode;
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.freelaconnect.api.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+/**
+ * Replaces the single {@code spring.datasource} pool with a primary and one pool per URL in
+ * {@code app.datasource.replica-urls}. Replica pools copy the primary's Hikari settings and open
+ * read-only connections.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica-urls:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+  @Bean
+  public ReadWriteRoutingDataSource routingDataSource(
+      DataSourceProperties properties,
+      Environment environment,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${app.datasource.replica-urls}") List<String> replicaUrls,
+      @Value("${app.datasource.replica-username:}") String replicaUsername,
+      @Value("${app.datasource.replica-password:}") String replicaPassword,
+      @Value("${app.datasource.read-your-writes-window}") Duration readYourWritesWindow) {
+    HikariDataSource primary =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    primary.setPoolName("primary");
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+    List<HikariDataSource> replicas = new ArrayList<>();
+    for (String url : replicaUrls) {
+      if (url.isBlank()) {
+        continue;
+      }
+      HikariConfig config = new HikariConfig();
+      primary.copyStateTo(config);
+      config.setJdbcUrl(url.trim());
+      config.setPoolName("replica-" + (replicas.size() + 1));
+      config.setReadOnly(true);
+      if (!replicaUsername.isEmpty()) {
+        config.setUsername(replicaUsername);
+      }
+      if (!replicaPassword.isEmpty()) {
+        config.setPassword(replicaPassword);
+      }
+      replicas.add(new HikariDataSource(config));
+    }
+    // The pools are not beans, so Spring Boot does not bind their hikaricp.* metrics itself.
+    meterRegistry.ifAvailable(
+        registry -> {
+          primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+          replicas.forEach(
+              replica ->
+                  replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        });
+    return new ReadWriteRoutingDataSource(primary, replicas, readYourWritesWindow);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void useReplicas(ApplicationReadyEvent event) {
+    event.getApplicationContext().getBean(ReadWriteRoutingDataSource.class).useReplicas();
+  }
+
+  @Bean
+  public static BeanPostProcessor replicaCacheModeJpaDialect(
+      ObjectProvider<ReadWriteRoutingDataSource> routingDataSource) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof LocalContainerEntityManagerFactoryBean) {
+          ((LocalContainerEntityManagerFactoryBean) bean)
+              .setJpaDialect(new ReplicaCacheModeJpaDialect(routingDataSource));
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+}
@@ -0,0 +1,28 @@
+package com.freelaconnect.api.config;
+
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Turns off open-in-view when {@code app.datasource.replica-urls} is set. An entity manager held
+ * open for the whole request keeps the connection of its first transaction, so later read-only
+ * transactions would stay on whichever pool that one picked. An explicit
+ * {@code spring.jpa.open-in-view} still wins.
+ */
+public class ReplicaRoutingEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+  @Override
+  public void postProcessEnvironment(
+      ConfigurableEnvironment environment, SpringApplication application) {
+    if (!environment.getProperty("app.datasource.replica-urls", "").isBlank()) {
+      environment
+          .getPropertySources()
+          .addLast(
+              new MapPropertySource(
+                  "replicaRouting", Map.of("spring.jpa.open-in-view", false)));
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.freelaconnect.api.config;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Local stand-in for replication between embedded H2 databases: once startup has finished writing
+ * (schema, generated data, rating backfill), the primary is copied to every replica. Later writes
+ * never reach the replicas, which makes reads that went to a replica easy to spot.
+ */
+@Configuration
+@Profile("replicas")
+public class ReplicaSnapshotRunner {
+  private static final Logger log = LoggerFactory.getLogger(ReplicaSnapshotRunner.class);
+
+  private final ReadWriteRoutingDataSource routingDataSource;
+
+  public ReplicaSnapshotRunner(ReadWriteRoutingDataSource routingDataSource) {
+    this.routingDataSource = routingDataSource;
+  }
+
+  // Before the routing datasource starts sending reads to the replicas.
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void copyPrimaryToReplicas() throws Exception {
+    long started = System.nanoTime();
+    Path script = Files.createTempFile("skillhive-primary", ".sql");
+    try {
+      new JdbcTemplate(routingDataSource.getPrimary())
+          .execute("script drop to '" + script + "'");
+      for (DataSource replica : routingDataSource.getReplicas()) {
+        new JdbcTemplate(replica).execute("runscript from '" + script + "'");
+      }
+    } finally {
+      Files.deleteIfExists(script);
+    }
+    log.info(
+        "Copied the primary to {} replicas in {} ms",
+        routingDataSource.getReplicas().size(),
+        (System.nanoTime() - started) / 1_000_000);
+  }
+}
@@ -0,0 +1,50 @@
+package com.freelaconnect.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times public methods of {@code @Service} beans as {@code service.invocations}. Runs outside the
+ * transaction advice, so commit time is included; calls a service makes to itself are not timed.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceTimingAspect {
+  private final MeterRegistry meterRegistry;
+  private final MetricsSampler sampler;
+
+  public ServiceTimingAspect(MeterRegistry meterRegistry, MetricsSampler sampler) {
+    this.meterRegistry = meterRegistry;
+    this.sampler = sampler;
+  }
+
+  @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (!sampler.sample()) {
+      return joinPoint.proceed();
+    }
+    long start = System.nanoTime();
+    String exception = "none";
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable ex) {
+      exception = ex.getClass().getSimpleName();
+      throw ex;
+    } finally {
+      Timer.builder("service.invocations")
+          .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+          .tag("method", joinPoint.getSignature().getName())
+          .tag("exception", exception)
+          .register(meterRegistry)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package com.freelaconnect.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Counts the SQL statements of every request and checks them against per-endpoint budgets
+ * ({@code app.sql.inspector.budgets}, keyed by method and URI pattern). Responses are buffered to
+ * carry the count in a header, so this is for the loadtest profile, development and tests only.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.inspector.enabled", havingValue = "true")
+public class SqlInspectorConfig {
+  public static final String SQL_COUNT_HEADER = "X-Sql-Statement-Count";
+  // Highest number of times one statement shape ran; well above 1 usually means an N+1.
+  public static final String SQL_REPEATS_HEADER = "X-Sql-Statement-Repeats";
+  private static final Logger log = LoggerFactory.getLogger(SqlInspectorConfig.class);
+
+  @Bean
+  public HibernatePropertiesCustomizer sqlStatementCounter() {
+    return properties ->
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+  }
+
+  // Buffers the body so the count, known only once the handler returns, can go in a header.
+  @Bean
+  public FilterRegistrationBean<OncePerRequestFilter> sqlStatementCountFilter(
+      Environment environment,
+      ObjectMapper objectMapper,
+      @Value("${app.sql.inspector.default-budget}") int defaultBudget,
+      @Value("${app.sql.inspector.repeat-threshold}") int repeatThreshold,
+      @Value("${app.sql.inspector.fail-on-budget}") boolean failOnBudget) {
+    Map<String, Integer> budgets =
+        Binder.get(environment)
+            .bind("app.sql.inspector.budgets", Bindable.mapOf(String.class, Integer.class))
+            .orElse(Map.of());
+    // Warnings repeat at most once a minute per endpoint and shape, so a load test does not flood.
+    Cache<String, Boolean> recentWarnings =
+        Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(1)).maximumSize(10_000).build();
+    OncePerRequestFilter filter =
+        new OncePerRequestFilter() {
+          // Streamed from a cursor; buffering it would hold the whole directory in memory.
+          @Override
+          protected boolean shouldNotFilter(HttpServletRequest request) {
+            return request
+                .getRequestURI()
+                .equals(request.getContextPath() + "/api/freelancers/export");
+          }
+
+          @Override
+          protected void doFilterInternal(
+              HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+              throws ServletException, IOException {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            SqlStatementCounter.start();
+            try {
+              chain.doFilter(request, wrapper);
+            } finally {
+              SqlStatementCounter.Statements statements = SqlStatementCounter.stop();
+              Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+              String endpoint =
+                  request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern);
+              for (Map.Entry<String, Integer> shape :
+                  statements.repeated(repeatThreshold).entrySet()) {
+                if (recentWarnings.asMap().putIfAbsent(endpoint + shape.getKey(), true) == null) {
+                  log.warn(
+                      "{} ran the same statement {} times, likely an N+1: {}",
+                      endpoint,
+                      shape.getValue(),
+                      shape.getKey());
+                }
+              }
+              int budget = budgets.getOrDefault(endpoint, defaultBudget);
+              if (budget > 0 && statements.getCount() > budget) {
+                String message =
+                    String.format(
+                        "%s ran %d SQL statements, budget %d",
+                        endpoint, statements.getCount(), budget);
+                if (failOnBudget) {
+                  wrapper.resetBuffer();
+                  wrapper.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+                  wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                  objectMapper.writeValue(
+                      wrapper.getOutputStream(),
+                      Map.of("timestamp", Instant.now().toString(), "error", message));
+                }
+                if (failOnBudget || recentWarnings.asMap().putIfAbsent(endpoint, true) == null) {
+                  log.warn(message);
+                }
+              }
+              wrapper.setHeader(SQL_COUNT_HEADER, String.valueOf(statements.getCount()));
+              wrapper.setHeader(SQL_REPEATS_HEADER, String.valueOf(statements.getMaxRepeats()));
+              wrapper.copyBodyToResponse();
+            }
+          }
+        };
+    FilterRegistrationBean<OncePerRequestFilter> registration =
+        new FilterRegistrationBean<>(filter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+}
@@ -0,0 +1,74 @@
+package com.freelaconnect.api.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, grouped by shape: the SQL
+ * with literals and bind-parameter lists collapsed, so the per-row queries of an N+1 add up under
+ * one shape. Statements issued directly through JdbcTemplate are not seen.
+ *
+ * <p>Tests can wrap a call in {@link #start()} and {@link #stop()} to assert on its statement
+ * count when the inspector is installed ({@code app.sql.inspector.enabled}).
+ */
+public class SqlStatementCounter implements StatementInspector {
+  private static final ThreadLocal<Statements> CURRENT = new ThreadLocal<>();
+  private static final Pattern LITERAL = Pattern.compile("'(?:[^']|'')*'|\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern PARAMETER_LIST =
+      Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  public static void start() {
+    CURRENT.set(new Statements());
+  }
+
+  /** Statements counted since {@link #start()}; empty if counting was not started. */
+  public static Statements stop() {
+    Statements statements = CURRENT.get();
+    CURRENT.remove();
+    return statements == null ? new Statements() : statements;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    Statements statements = CURRENT.get();
+    if (statements != null) {
+      statements.count++;
+      statements.shapes.merge(shape(sql), 1, Integer::sum);
+    }
+    return sql;
+  }
+
+  static String shape(String sql) {
+    String shape = LITERAL.matcher(sql).replaceAll("?");
+    shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+    return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+  }
+
+  public static class Statements {
+    private int count;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    public int getCount() {
+      return count;
+    }
+
+    /** Highest number of times a single shape ran. */
+    public int getMaxRepeats() {
+      return shapes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /** Shapes that ran at least {@code times} times, most repeated first. */
+    public Map<String, Integer> repeated(int times) {
+      Map<String, Integer> repeated = new LinkedHashMap<>();
+      shapes.entrySet().stream()
+          .filter(entry -> entry.getValue() >= times)
+          .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+          .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+      return repeated;
+    }
+  }
+}
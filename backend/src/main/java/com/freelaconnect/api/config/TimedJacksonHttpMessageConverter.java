@@ -0,0 +1,59 @@
+package com.freelaconnect.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how long response bodies take to serialize as {@code http.server.serialization}, tagged
+ * with the same {@code uri} as {@code http.server.requests}. Bodies larger than the response buffer
+ * are partly written to the socket while serializing, so slow clients show up here too.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+  private final MeterRegistry meterRegistry;
+  private final MetricsSampler sampler;
+
+  public TimedJacksonHttpMessageConverter(
+      ObjectMapper objectMapper, MeterRegistry meterRegistry, MetricsSampler sampler) {
+    super(objectMapper);
+    this.meterRegistry = meterRegistry;
+    this.sampler = sampler;
+  }
+
+  @Override
+  protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    if (!sampler.sample()) {
+      super.writeInternal(object, type, outputMessage);
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      super.writeInternal(object, type, outputMessage);
+    } finally {
+      Timer.builder("http.server.serialization")
+          .tag("uri", currentUri())
+          .register(meterRegistry)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private static String currentUri() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    Object pattern =
+        attributes == null
+            ? null
+            : attributes.getAttribute(
+                HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    return pattern == null ? "UNKNOWN" : pattern.toString();
+  }
+}
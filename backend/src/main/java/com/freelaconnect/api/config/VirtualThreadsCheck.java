@@ -0,0 +1,29 @@
+package com.freelaconnect.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class VirtualThreadsCheck {
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadsCheck.class);
+
+  @Bean
+  public ApplicationRunner reportThreadingMode(
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    return args -> {
+      int feature = Runtime.version().feature();
+      if (virtualThreads && feature < 21) {
+        log.warn(
+            "spring.threads.virtual.enabled is set but the runtime is Java {}; "
+                + "requests are served by platform threads",
+            feature);
+      } else if (virtualThreads) {
+        log.info("Serving requests on virtual threads");
+      }
+    };
+  }
+}
@@ -1,23 +1,65 @@
 package com.freelaconnect.api.controller;
 
-import com.freelaconnect.api.model.Category;
-import com.freelaconnect.api.repository.CategoryRepository;
+import com.freelaconnect.api.dto.LeaderboardDtos.LeaderboardEntry;
+import com.freelaconnect.api.leaderboard.CategoryLeaderboards;
+import com.freelaconnect.api.service.CategoryRegistry;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/categories")
 public class CategoryController {
-  private final CategoryRepository categoryRepository;
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
 
-  public CategoryController(CategoryRepository categoryRepository) {
-    this.categoryRepository = categoryRepository;
+  private final CategoryRegistry categoryRegistry;
+  private final CategoryLeaderboards leaderboards;
+
+  public CategoryController(
+      CategoryRegistry categoryRegistry, CategoryLeaderboards leaderboards) {
+    this.categoryRegistry = categoryRegistry;
+    this.leaderboards = leaderboards;
   }
 
   @GetMapping
-  public List<Category> getAll() {
-    return categoryRepository.findAll();
+  public ResponseEntity<byte[]> getAll(WebRequest request) {
+    CategoryRegistry.Snapshot snapshot = categoryRegistry.getSnapshot();
+    if (request.checkNotModified(snapshot.getEtag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+    return ResponseEntity.ok()
+        .eTag(snapshot.getEtag())
+        .cacheControl(REVALIDATE)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(snapshot.getJson());
+  }
+
+  @GetMapping("/{id}/top")
+  public ResponseEntity<?> getTop(
+      @PathVariable Long id, @RequestParam(required = false) Integer limit) {
+    if (!leaderboards.isReady()) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, "5")
+          .body(
+              Map.of("timestamp", Instant.now().toString(), "error", "Leaderboards are loading"));
+    }
+    List<LeaderboardEntry> top =
+        leaderboards.top(id, limit == null ? leaderboards.getSize() : limit);
+    if (top.isEmpty()
+        && categoryRegistry.getAll().stream().noneMatch(category -> category.getId().equals(id))) {
+      throw new IllegalArgumentException("Category not found");
+    }
+    return ResponseEntity.ok(top);
   }
 }
@@ -5,18 +5,25 @@ import com.freelaconnect.api.dto.ClientDtos.ClientProfileResponse;
 import com.freelaconnect.api.dto.ClientDtos.CompleteProjectRequest;
 import com.freelaconnect.api.dto.ClientDtos.HireProjectRequest;
 import com.freelaconnect.api.dto.ClientDtos.ReviewRequest;
+import com.freelaconnect.api.dto.CursorPage;
+import com.freelaconnect.api.dto.ProjectDtos.ProjectSummary;
 import com.freelaconnect.api.dto.RequestDtos.CreateRequest;
 import com.freelaconnect.api.dto.RequestDtos.RequestResponse;
-import com.freelaconnect.api.dto.FreelancerDtos.FreelancerSummary;
 import com.freelaconnect.api.model.Project;
 import com.freelaconnect.api.model.Review;
 import com.freelaconnect.api.repository.ProjectRepository;
 import com.freelaconnect.api.service.ClientService;
+import com.freelaconnect.api.service.ProjectSummaryService;
 import com.freelaconnect.api.service.RequestService;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/clients")
@@ -24,23 +31,42 @@ public class ClientController {
   private final ClientService clientService;
   private final ProjectRepository projectRepository;
   private final RequestService requestService;
+  private final ProjectSummaryService projectSummaryService;
+  private final boolean legacyListDefault;
 
   public ClientController(
       ClientService clientService,
       ProjectRepository projectRepository,
-      RequestService requestService) {
+      RequestService requestService,
+      ProjectSummaryService projectSummaryService,
+      @Value("${app.directory.legacy-list}") boolean legacyListDefault) {
     this.clientService = clientService;
     this.projectRepository = projectRepository;
     this.requestService = requestService;
+    this.projectSummaryService = projectSummaryService;
+    this.legacyListDefault = legacyListDefault;
   }
 
   @GetMapping("/freelancers")
-  public List<FreelancerSummary> browseFreelancers(
+  public ResponseEntity<?> browseFreelancers(
       @RequestParam(required = false) String category,
       @RequestParam(required = false) String rating,
       @RequestParam(required = false) String skill,
-      @RequestParam(required = false) String search) {
-    return clientService.browseFreelancers(category, rating, skill, search);
+      @RequestParam(required = false) String search,
+      @RequestParam(required = false) String sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int limit,
+      @RequestParam(required = false) Boolean legacy,
+      WebRequest request) {
+    boolean legacyList = legacy != null ? legacy : legacyListDefault;
+    return ConditionalResponses.respond(
+        request,
+        clientService.getDirectoryVersion(),
+        () ->
+            legacyList
+                ? clientService.browseFreelancerList(category, rating, skill, search, sort)
+                : clientService.browseFreelancers(
+                    category, rating, skill, search, sort, cursor, limit));
   }
 
   @PreAuthorize("hasRole('CLIENT')")
@@ -55,6 +81,21 @@ public class ClientController {
     return ResponseEntity.ok(requestService.createRequest(request));
   }
 
+  @PreAuthorize("hasRole('CLIENT')")
+  @GetMapping("/me/requests/outbox")
+  public CursorPage<RequestResponse> getMyOutbox(
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int limit) {
+    return requestService.getOutbox(status, cursor, limit);
+  }
+
+  @PreAuthorize("hasRole('CLIENT')")
+  @GetMapping("/me/requests/counts")
+  public Map<String, Long> getMyRequestCounts() {
+    return requestService.countOutbox();
+  }
+
   @PreAuthorize("hasRole('CLIENT')")
   @PostMapping("/reviews")
   public ResponseEntity<Review> addReview(@RequestBody ReviewRequest request) {
@@ -67,6 +108,19 @@ public class ClientController {
     return clientService.getMyProjects();
   }
 
+  @PreAuthorize("hasRole('CLIENT')")
+  @GetMapping("/me/projects/summaries")
+  public CursorPage<ProjectSummary> getMyProjectSummaries(
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int limit) {
+    return projectSummaryService.forCurrentClient(status, from, to, cursor, limit);
+  }
+
   @PreAuthorize("hasRole('CLIENT')")
   @PostMapping("/me/projects/{projectId}/complete")
   public ResponseEntity<Review> completeProject(
@@ -0,0 +1,30 @@
+package com.freelaconnect.api.controller;
+
+import com.freelaconnect.api.service.ContentVersion;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+final class ConditionalResponses {
+  private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+  private ConditionalResponses() {}
+
+  // Answers If-None-Match / If-Modified-Since with 304 before the body is built.
+  static ResponseEntity<?> respond(
+      WebRequest request, ContentVersion version, Supplier<?> body) {
+    long lastModified =
+        version.getLastModified() == null ? -1 : version.getLastModified().toEpochMilli();
+    if (request.checkNotModified(version.getEtag(), lastModified)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+    ResponseEntity.BodyBuilder builder =
+        ResponseEntity.ok().eTag(version.getEtag()).cacheControl(REVALIDATE);
+    if (version.getLastModified() != null) {
+      builder.lastModified(version.getLastModified());
+    }
+    return builder.body(body.get());
+  }
+}
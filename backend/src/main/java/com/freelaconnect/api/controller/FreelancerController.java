@@ -1,37 +1,104 @@
 package com.freelaconnect.api.controller;
 
+import com.freelaconnect.api.dto.CursorPage;
 import com.freelaconnect.api.dto.FreelancerDtos.FreelancerDetails;
 import com.freelaconnect.api.dto.FreelancerDtos.FreelancerProfileRequest;
-import com.freelaconnect.api.dto.FreelancerDtos.FreelancerSummary;
+import com.freelaconnect.api.dto.FreelancerDtos.RatingStats;
 import com.freelaconnect.api.dto.FreelancerDtos.ReviewDto;
+import com.freelaconnect.api.dto.ProjectDtos.ProjectSummary;
 import com.freelaconnect.api.dto.RequestDtos.RequestResponse;
 import com.freelaconnect.api.model.Project;
+import com.freelaconnect.api.repository.FreelancerSort;
+import com.freelaconnect.api.service.ContentVersion;
+import com.freelaconnect.api.service.DirectoryExporter;
+import com.freelaconnect.api.service.FreelancerRatingService;
 import com.freelaconnect.api.service.FreelancerService;
+import com.freelaconnect.api.service.ProjectSummaryService;
 import com.freelaconnect.api.service.RequestService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/freelancers")
 public class FreelancerController {
   private final FreelancerService freelancerService;
+  private final FreelancerRatingService ratingService;
+  private final DirectoryExporter directoryExporter;
   private final RequestService requestService;
+  private final ProjectSummaryService projectSummaryService;
+  private final boolean legacyListDefault;
 
-  public FreelancerController(FreelancerService freelancerService, RequestService requestService) {
+  public FreelancerController(
+      FreelancerService freelancerService,
+      FreelancerRatingService ratingService,
+      DirectoryExporter directoryExporter,
+      RequestService requestService,
+      ProjectSummaryService projectSummaryService,
+      @Value("${app.directory.legacy-list}") boolean legacyListDefault) {
     this.freelancerService = freelancerService;
+    this.ratingService = ratingService;
+    this.directoryExporter = directoryExporter;
     this.requestService = requestService;
+    this.projectSummaryService = projectSummaryService;
+    this.legacyListDefault = legacyListDefault;
   }
 
   @GetMapping
-  public List<FreelancerSummary> browseFreelancers() {
-    return freelancerService.browseAll();
+  public ResponseEntity<?> browseFreelancers(
+      @RequestParam(required = false) String sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int limit,
+      @RequestParam(required = false) Boolean legacy,
+      WebRequest request) {
+    boolean legacyList = legacy != null ? legacy : legacyListDefault;
+    return ConditionalResponses.respond(
+        request,
+        freelancerService.getDirectoryVersion(),
+        () ->
+            legacyList
+                ? freelancerService.browseAll()
+                : freelancerService.browsePage(
+                    null, null, null, null, FreelancerSort.parse(sort), cursor, limit));
+  }
+
+  // Whole directory as one JSON array, streamed from the database as it is read.
+  @GetMapping("/export")
+  public void exportFreelancers(WebRequest request, HttpServletResponse response)
+      throws IOException {
+    ContentVersion version = freelancerService.getDirectoryVersion().weak();
+    long lastModified =
+        version.getLastModified() == null ? -1 : version.getLastModified().toEpochMilli();
+    if (request.checkNotModified(version.getEtag(), lastModified)) {
+      return;
+    }
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+    directoryExporter.export(response.getOutputStream());
   }
 
   @GetMapping("/{id}")
-  public FreelancerDetails getFreelancer(@PathVariable Long id) {
-    return freelancerService.getById(id);
+  public ResponseEntity<?> getFreelancer(@PathVariable Long id, WebRequest request) {
+    return ConditionalResponses.respond(
+        request, freelancerService.getVersion(id), () -> freelancerService.getById(id));
+  }
+
+  @GetMapping("/{id}/rating-stats")
+  public RatingStats getRatingStats(@PathVariable Long id) {
+    return ratingService.getStats(id);
   }
 
   @PreAuthorize("hasRole('FREELANCER')")
@@ -52,6 +119,19 @@ public class FreelancerController {
     return freelancerService.getMyProjects();
   }
 
+  @PreAuthorize("hasRole('FREELANCER')")
+  @GetMapping("/me/projects/summaries")
+  public CursorPage<ProjectSummary> getMyProjectSummaries(
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int limit) {
+    return projectSummaryService.forCurrentFreelancer(status, from, to, cursor, limit);
+  }
+
   @PreAuthorize("hasRole('FREELANCER')")
   @GetMapping("/me/reviews")
   public List<ReviewDto> getMyReviews() {
@@ -64,6 +144,21 @@ public class FreelancerController {
     return requestService.getRequestsForFreelancer();
   }
 
+  @PreAuthorize("hasRole('FREELANCER')")
+  @GetMapping("/me/requests/inbox")
+  public CursorPage<RequestResponse> getMyInbox(
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int limit) {
+    return requestService.getInbox(status, cursor, limit);
+  }
+
+  @PreAuthorize("hasRole('FREELANCER')")
+  @GetMapping("/me/requests/counts")
+  public Map<String, Long> getMyRequestCounts() {
+    return requestService.countInbox();
+  }
+
   @PreAuthorize("hasRole('FREELANCER')")
   @PostMapping("/me/requests/{requestId}/accept")
   public ResponseEntity<RequestResponse> acceptRequest(
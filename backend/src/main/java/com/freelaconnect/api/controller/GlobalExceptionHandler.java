@@ -1,9 +1,13 @@
 package com.freelaconnect.api.controller;
 
+import com.freelaconnect.api.security.PasswordHashingBusyException;
 import java.time.Instant;
 import java.util.Map;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -17,6 +21,24 @@ public class GlobalExceptionHandler {
         .body(Map.of("timestamp", Instant.now().toString(), "error", ex.getMessage()));
   }
 
+  @ExceptionHandler(PasswordHashingBusyException.class)
+  public ResponseEntity<Map<String, Object>> handleHashingBusy(PasswordHashingBusyException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(Map.of("timestamp", Instant.now().toString(), "error", ex.getMessage()));
+  }
+
+  // Raised when no pooled connection frees up within the Hikari connection timeout.
+  @ExceptionHandler({
+    CannotCreateTransactionException.class,
+    DataAccessResourceFailureException.class
+  })
+  public ResponseEntity<Map<String, Object>> handleDatabaseBusy(RuntimeException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(Map.of("timestamp", Instant.now().toString(), "error", "Service busy, please retry"));
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
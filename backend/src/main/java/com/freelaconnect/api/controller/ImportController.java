@@ -0,0 +1,59 @@
+package com.freelaconnect.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelaconnect.api.service.BulkImportService;
+import com.freelaconnect.api.service.ImportRecordReader;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// Partner onboarding. Disabled unless app.import.token is set; callers send it as X-Import-Token.
+@RestController
+@RequestMapping("/api/admin/import")
+public class ImportController {
+  static final String TOKEN_HEADER = "X-Import-Token";
+
+  private final BulkImportService importService;
+  private final ObjectMapper objectMapper;
+  private final byte[] token;
+  private final int maxReportedRejections;
+
+  public ImportController(
+      BulkImportService importService,
+      ObjectMapper objectMapper,
+      @Value("${app.import.token}") String token,
+      @Value("${app.import.max-reported-rejections}") int maxReportedRejections) {
+    this.importService = importService;
+    this.objectMapper = objectMapper;
+    this.token = token.getBytes(StandardCharsets.UTF_8);
+    this.maxReportedRejections = maxReportedRejections;
+  }
+
+  @PostMapping("/{type}")
+  public ResponseEntity<?> importRecords(
+      @PathVariable String type,
+      @RequestHeader(value = TOKEN_HEADER, required = false) String token,
+      @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+      InputStream body) {
+    if (this.token.length == 0
+        || token == null
+        || !MessageDigest.isEqual(this.token, token.getBytes(StandardCharsets.UTF_8))) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN)
+          .body(Map.of("timestamp", Instant.now().toString(), "error", "Invalid import token"));
+    }
+    ImportRecordReader reader =
+        new ImportRecordReader(body, ImportRecordReader.formatFor(contentType, null), objectMapper);
+    return ResponseEntity.ok(importService.importRecords(type, reader, maxReportedRejections));
+  }
+}
@@ -0,0 +1,49 @@
+package com.freelaconnect.api.controller;
+
+import com.freelaconnect.api.service.PhotoStore;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/photos")
+public class PhotoController {
+  private static final CacheControl IMMUTABLE =
+      CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+  private final PhotoStore photoStore;
+
+  public PhotoController(PhotoStore photoStore) {
+    this.photoStore = photoStore;
+  }
+
+  @GetMapping("/{hash}")
+  public ResponseEntity<Resource> getPhoto(@PathVariable String hash, WebRequest request) {
+    Path path = photoStore.find(hash).orElse(null);
+    if (path == null) {
+      return ResponseEntity.notFound().build();
+    }
+    String etag = "\"" + hash + "\"";
+    if (request.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(IMMUTABLE).build();
+    }
+    // A sandbox keeps anything that still slips through from running script on this origin.
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .header("Content-Security-Policy", "sandbox; default-src 'none'")
+        .header("X-Content-Type-Options", "nosniff")
+        .cacheControl(IMMUTABLE)
+        .contentType(MediaType.parseMediaType(photoStore.contentType(hash)))
+        .body(new FileSystemResource(path));
+  }
+}
@@ -0,0 +1,14 @@
+package com.freelaconnect.api.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+  private List<T> items;
+  private String nextCursor;
+}
@@ -1,6 +1,9 @@
 package com.freelaconnect.api.dto;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import lombok.Data;
 
 public class FreelancerDtos {
@@ -24,6 +27,7 @@ public class FreelancerDtos {
     private String skills;
     private String profilePhotoUrl;
     private Double averageRating;
+    private Long reviewCount;
   }
 
   @Data
@@ -37,6 +41,7 @@ public class FreelancerDtos {
     private String whatsapp;
     private String contactEmail;
     private Double averageRating;
+    private Long reviewCount;
     private List<ReviewDto> reviews;
   }
 
@@ -47,4 +52,26 @@ public class FreelancerDtos {
     private String comment;
     private String clientName;
   }
+
+  @Data
+  public static class RatingStats {
+    private Long freelancerId;
+    private Long reviewCount;
+    private Double averageRating;
+    // Review count per star, keyed 1 through 5.
+    private Map<Integer, Long> histogram;
+    private Instant lastReviewAt;
+    private Integer trendDays;
+    private Long recentReviewCount;
+    private Double recentAverageRating;
+    // UTC days within the last trendDays that received reviews, oldest first.
+    private List<RatingBucketDto> trend;
+  }
+
+  @Data
+  public static class RatingBucketDto {
+    private LocalDate date;
+    private Long reviewCount;
+    private Double averageRating;
+  }
 }
@@ -0,0 +1,79 @@
+package com.freelaconnect.api.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class ImportDtos {
+
+  /** Fields shared by imported accounts; either a password or a BCrypt hash is required. */
+  public interface AccountRecord {
+    String getEmail();
+
+    String getPassword();
+
+    String getPasswordHash();
+  }
+
+  @Data
+  public static class FreelancerRecord implements AccountRecord {
+    @Email @NotBlank @Size(max = 255) private String email;
+    private String password;
+    // Already BCrypt-hashed password, for agencies migrating existing accounts.
+    private String passwordHash;
+    @NotBlank @Size(max = 255) private String fullName;
+    @Size(max = 1000) private String bio;
+    @Size(max = 1000) private String skills;
+    private List<String> categoryNames;
+    @Size(max = 255) private String whatsapp;
+    @Size(max = 255) private String contactEmail;
+    private String profilePhotoUrl;
+  }
+
+  @Data
+  public static class ClientRecord implements AccountRecord {
+    @Email @NotBlank @Size(max = 255) private String email;
+    private String password;
+    private String passwordHash;
+    @NotBlank @Size(max = 255) private String fullName;
+    @Size(max = 255) private String company;
+  }
+
+  @Data
+  public static class ReviewRecord {
+    @Email @NotBlank private String clientEmail;
+    @Email @NotBlank private String freelancerEmail;
+    @NotNull @Min(1) @Max(5) private Integer rating;
+    @Size(max = 1500) private String comment;
+    @Size(max = 255) private String title;
+    // ISO-8601 instant; defaults to the import time.
+    private String createdAt;
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class RejectedRow {
+    private long line;
+    private String reason;
+  }
+
+  @Data
+  public static class ImportResult {
+    private String type;
+    private long processed;
+    private long imported;
+    private long rejectedCount;
+    // Capped at app.import.max-reported-rejections; rejectedCount has the full total.
+    private List<RejectedRow> rejected = new ArrayList<>();
+    private long elapsedMs;
+  }
+}
@@ -0,0 +1,20 @@
+package com.freelaconnect.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+public class LeaderboardDtos {
+
+  @Data
+  @AllArgsConstructor
+  public static class LeaderboardEntry {
+    private int rank;
+    private Long freelancerId;
+    private String fullName;
+    private String profilePhotoUrl;
+    private Double averageRating;
+    private Long reviewCount;
+    // Bayesian average the list is ordered by.
+    private Double score;
+  }
+}
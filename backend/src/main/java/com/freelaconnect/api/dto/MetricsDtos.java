@@ -0,0 +1,36 @@
+package com.freelaconnect.api.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+public class MetricsDtos {
+
+  @Data
+  @AllArgsConstructor
+  public static class LatencyReport {
+    private List<TimerLatency> timers;
+    private List<ExceptionCount> exceptions;
+  }
+
+  /** Times in milliseconds; percentiles cover the recent window, count and total all time. */
+  @Data
+  @AllArgsConstructor
+  public static class TimerLatency {
+    private String name;
+    private Map<String, String> tags;
+    private long count;
+    private double totalMs;
+    private Map<String, Double> percentiles;
+    private double maxMs;
+  }
+
+  @Data
+  @AllArgsConstructor
+  public static class ExceptionCount {
+    private String exception;
+    private String uri;
+    private long count;
+  }
+}
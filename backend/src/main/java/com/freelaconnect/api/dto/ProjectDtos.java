@@ -0,0 +1,23 @@
+package com.freelaconnect.api.dto;
+
+import java.time.Instant;
+import lombok.Data;
+
+public class ProjectDtos {
+
+  // One dashboard row: the project's own columns plus the other party's id and name.
+  @Data
+  public static class ProjectSummary {
+    private Long id;
+    private String title;
+    private String serviceName;
+    private String status;
+    private Double salary;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Long counterpartId;
+    private String counterpartName;
+    // Stars of the review left on the project, or null while it has none.
+    private Integer rating;
+  }
+}
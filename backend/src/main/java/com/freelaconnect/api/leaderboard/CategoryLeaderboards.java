@@ -0,0 +1,230 @@
+package com.freelaconnect.api.leaderboard;
+
+import com.freelaconnect.api.dto.LeaderboardDtos.LeaderboardEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-category rankings of reviewed freelancers by Bayesian average: {@code (C * m + sum) / (C +
+ * n)}, where {@code m} is the mean of all reviews and {@code C} the prior weight, so a handful of
+ * perfect reviews does not outrank hundreds of good ones. Each category keeps every reviewed
+ * member in a sorted set and publishes its top entries as an immutable list after each change;
+ * reads never touch the sets.
+ */
+@Component
+public class CategoryLeaderboards {
+  // Highest score first; ties go to the freelancer with more reviews, then the older profile.
+  private static final Comparator<Standing> ORDER =
+      (left, right) -> {
+        int byScore = Double.compare(right.score, left.score);
+        if (byScore != 0) {
+          return byScore;
+        }
+        int byReviews = Long.compare(right.reviewCount, left.reviewCount);
+        return byReviews != 0 ? byReviews : left.id.compareTo(right.id);
+      };
+
+  private final double priorWeight;
+  private final int size;
+  private final Map<Long, Standing> standings = new HashMap<>();
+  private final Map<Long, NavigableSet<Standing>> rankings = new HashMap<>();
+  private final Map<Long, List<LeaderboardEntry>> tops = new ConcurrentHashMap<>();
+  // Profiles and ratings committed during the startup rebuild for freelancers it has not loaded
+  // yet. They are at least as new as what the rebuild read for its batch, so they win over it.
+  private final Map<Long, RankedFreelancer> pendingProfiles = new HashMap<>();
+  private final Map<Long, PendingRating> pendingRatings = new HashMap<>();
+  private double priorMean;
+  private volatile boolean ready;
+
+  public CategoryLeaderboards(
+      @Value("${app.leaderboard.prior-weight}") double priorWeight,
+      @Value("${app.leaderboard.size}") int size) {
+    this.priorWeight = priorWeight;
+    this.size = Math.max(1, size);
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  // Places freelancers whose profile committed after the rebuild read past them.
+  public synchronized void markReady() {
+    for (RankedFreelancer freelancer : new ArrayList<>(pendingProfiles.values())) {
+      loadIfAbsent(freelancer, 0, 0);
+    }
+    pendingRatings.clear();
+    ready = true;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  // Set once per rebuild, before any freelancer is loaded; scores are relative to it.
+  public synchronized void setPriorMean(double priorMean) {
+    this.priorMean = priorMean;
+  }
+
+  // Top of the category, best first, capped at the configured size.
+  public List<LeaderboardEntry> top(Long categoryId, int limit) {
+    List<LeaderboardEntry> top = tops.getOrDefault(categoryId, List.of());
+    return limit < top.size() ? top.subList(0, Math.max(0, limit)) : top;
+  }
+
+  public void updateProfileAfterCommit(RankedFreelancer freelancer) {
+    afterCommit(() -> updateProfile(freelancer));
+  }
+
+  public synchronized void updateProfile(RankedFreelancer freelancer) {
+    Standing existing = standings.get(freelancer.getId());
+    if (existing == null && !ready) {
+      pendingProfiles.put(freelancer.getId(), freelancer);
+      return;
+    }
+    long ratingSum = existing == null ? 0 : existing.ratingSum;
+    long reviewCount = existing == null ? 0 : existing.reviewCount;
+    replace(existing, standing(freelancer, ratingSum, reviewCount));
+  }
+
+  public void updateRatingAfterCommit(Long freelancerId, long ratingSum, long reviewCount) {
+    afterCommit(() -> updateRating(freelancerId, ratingSum, reviewCount));
+  }
+
+  // Freelancers the startup rebuild has not loaded yet keep their rating until it does.
+  public synchronized void updateRating(Long freelancerId, long ratingSum, long reviewCount) {
+    Standing existing = standings.get(freelancerId);
+    if (existing == null) {
+      if (!ready) {
+        pendingRatings.put(freelancerId, new PendingRating(ratingSum, reviewCount));
+      }
+      return;
+    }
+    replace(
+        existing,
+        new Standing(
+            existing.id,
+            existing.fullName,
+            existing.profilePhotoUrl,
+            existing.categoryIds,
+            ratingSum,
+            reviewCount,
+            score(ratingSum, reviewCount)));
+  }
+
+  // Used by the startup rebuild: a live update that already placed a freelancer wins.
+  public synchronized void loadIfAbsent(
+      RankedFreelancer freelancer, long ratingSum, long reviewCount) {
+    if (standings.containsKey(freelancer.getId())) {
+      return;
+    }
+    RankedFreelancer profile = pendingProfiles.remove(freelancer.getId());
+    PendingRating pending = pendingRatings.remove(freelancer.getId());
+    replace(
+        null,
+        standing(
+            profile == null ? freelancer : profile,
+            pending == null ? ratingSum : pending.ratingSum,
+            pending == null ? reviewCount : pending.reviewCount));
+  }
+
+  private Standing standing(RankedFreelancer freelancer, long ratingSum, long reviewCount) {
+    return new Standing(
+        freelancer.getId(),
+        freelancer.getFullName(),
+        freelancer.getProfilePhotoUrl(),
+        new HashSet<>(freelancer.getCategoryIds()),
+        ratingSum,
+        reviewCount,
+        score(ratingSum, reviewCount));
+  }
+
+  private double score(long ratingSum, long reviewCount) {
+    return (priorWeight * priorMean + ratingSum) / (priorWeight + reviewCount);
+  }
+
+  private void replace(Standing existing, Standing updated) {
+    Set<Long> changed = new HashSet<>();
+    if (existing != null && existing.reviewCount > 0) {
+      for (Long categoryId : existing.categoryIds) {
+        rankings.get(categoryId).remove(existing);
+        changed.add(categoryId);
+      }
+    }
+    standings.put(updated.id, updated);
+    // Unreviewed freelancers are tracked so their first review can place them, but not ranked.
+    if (updated.reviewCount > 0) {
+      for (Long categoryId : updated.categoryIds) {
+        rankings.computeIfAbsent(categoryId, id -> new TreeSet<>(ORDER)).add(updated);
+        changed.add(categoryId);
+      }
+    }
+    for (Long categoryId : changed) {
+      publish(categoryId);
+    }
+  }
+
+  private void publish(Long categoryId) {
+    NavigableSet<Standing> ranking = rankings.get(categoryId);
+    List<LeaderboardEntry> top = new ArrayList<>(Math.min(size, ranking.size()));
+    Iterator<Standing> iterator = ranking.iterator();
+    while (iterator.hasNext() && top.size() < size) {
+      Standing standing = iterator.next();
+      top.add(
+          new LeaderboardEntry(
+              top.size() + 1,
+              standing.id,
+              standing.fullName,
+              standing.profilePhotoUrl,
+              (double) standing.ratingSum / standing.reviewCount,
+              standing.reviewCount,
+              standing.score));
+    }
+    tops.put(categoryId, Collections.unmodifiableList(top));
+  }
+
+  private static void afterCommit(Runnable update) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      update.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            update.run();
+          }
+        });
+  }
+
+  @AllArgsConstructor
+  private static class PendingRating {
+    private final long ratingSum;
+    private final long reviewCount;
+  }
+
+  @AllArgsConstructor
+  private static class Standing {
+    private final Long id;
+    private final String fullName;
+    private final String profilePhotoUrl;
+    private final Set<Long> categoryIds;
+    private final long ratingSum;
+    private final long reviewCount;
+    private final double score;
+  }
+}
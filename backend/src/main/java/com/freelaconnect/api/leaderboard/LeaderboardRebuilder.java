@@ -0,0 +1,102 @@
+package com.freelaconnect.api.leaderboard;
+
+import com.freelaconnect.api.model.FreelancerRating;
+import com.freelaconnect.api.repository.FreelancerRatingRepository;
+import com.freelaconnect.api.repository.FreelancerRatingRepository.Totals;
+import com.freelaconnect.api.repository.FreelancerRepository;
+import com.freelaconnect.api.repository.FreelancerRepository.CategoryId;
+import com.freelaconnect.api.repository.FreelancerRepository.LeaderboardRow;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LeaderboardRebuilder {
+  private static final Logger log = LoggerFactory.getLogger(LeaderboardRebuilder.class);
+  private static final int BATCH_SIZE = 500;
+
+  private final FreelancerRepository freelancerRepository;
+  private final FreelancerRatingRepository ratingRepository;
+  private final CategoryLeaderboards leaderboards;
+
+  public LeaderboardRebuilder(
+      FreelancerRepository freelancerRepository,
+      FreelancerRatingRepository ratingRepository,
+      CategoryLeaderboards leaderboards) {
+    this.freelancerRepository = freelancerRepository;
+    this.ratingRepository = ratingRepository;
+    this.leaderboards = leaderboards;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildInBackground() {
+    Thread thread = new Thread(this::rebuild, "leaderboard-rebuild");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  public void rebuild() {
+    long started = System.nanoTime();
+    long lastId = 0;
+    try {
+      Totals totals = ratingRepository.sumAll();
+      long ratingSum = totals.getRatingSum();
+      long reviewCount = totals.getReviewCount();
+      // With no reviews yet any prior works; the scale midpoint keeps early scores neutral.
+      leaderboards.setPriorMean(
+          reviewCount == 0
+              ? (FreelancerRating.MIN_STARS + FreelancerRating.MAX_STARS) / 2.0
+              : (double) ratingSum / reviewCount);
+      int loaded = 0;
+      while (true) {
+        List<LeaderboardRow> rows =
+            freelancerRepository.findLeaderboardRows(lastId, PageRequest.of(0, BATCH_SIZE));
+        if (rows.isEmpty()) {
+          break;
+        }
+        List<Long> ids = new ArrayList<>();
+        for (LeaderboardRow row : rows) {
+          ids.add(row.getId());
+        }
+        Map<Long, List<Long>> categories = new HashMap<>();
+        for (CategoryId row : freelancerRepository.findCategoryIds(ids)) {
+          categories
+              .computeIfAbsent(row.getFreelancerId(), id -> new ArrayList<>())
+              .add(row.getCategoryId());
+        }
+        Map<Long, FreelancerRating> ratings = new HashMap<>();
+        for (FreelancerRating rating : ratingRepository.findAllById(ids)) {
+          ratings.put(rating.getFreelancerId(), rating);
+        }
+        for (LeaderboardRow row : rows) {
+          Long id = row.getId();
+          FreelancerRating rating = ratings.get(id);
+          leaderboards.loadIfAbsent(
+              new RankedFreelancer(
+                  id,
+                  row.getFullName(),
+                  row.getProfilePhotoUrl(),
+                  categories.getOrDefault(id, List.of())),
+              rating == null ? 0 : rating.getRatingSum(),
+              rating == null ? 0 : rating.getReviewCount());
+        }
+        loaded += rows.size();
+        lastId = ids.get(ids.size() - 1);
+      }
+      leaderboards.markReady();
+      log.info(
+          "Category leaderboards built from {} freelancers in {} ms",
+          loaded,
+          (System.nanoTime() - started) / 1_000_000);
+    } catch (RuntimeException ex) {
+      log.error("Category leaderboard rebuild failed; top lists stay unavailable", ex);
+    }
+  }
+}
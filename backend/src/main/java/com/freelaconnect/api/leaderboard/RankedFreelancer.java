@@ -0,0 +1,26 @@
+package com.freelaconnect.api.leaderboard;
+
+import com.freelaconnect.api.model.Category;
+import com.freelaconnect.api.model.Freelancer;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// The profile fields a leaderboard entry shows, plus the categories it is ranked in.
+@Getter
+@AllArgsConstructor
+public class RankedFreelancer {
+  private final Long id;
+  private final String fullName;
+  private final String profilePhotoUrl;
+  private final List<Long> categoryIds;
+
+  public static RankedFreelancer of(Freelancer freelancer) {
+    return new RankedFreelancer(
+        freelancer.getId(),
+        freelancer.getFullName(),
+        freelancer.getProfilePhotoUrl(),
+        freelancer.getCategories().stream().map(Category::getId).collect(Collectors.toList()));
+  }
+}
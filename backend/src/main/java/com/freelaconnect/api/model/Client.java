@@ -5,9 +5,15 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = "clients")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clients")
+@NaturalIdCache(region = "clients-by-user")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,6 +22,7 @@ public class Client {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  @NaturalId
   @OneToOne(optional = false)
   @JoinColumn(name = "user_id", nullable = false, unique = true)
   @JsonIgnore
@@ -26,7 +33,6 @@ public class Client {
 
   private String company;
 
-  @Lob
-  @Column(columnDefinition = "LONGTEXT")
+  @Column(length = 512)
   private String profilePhotoUrl;
 }
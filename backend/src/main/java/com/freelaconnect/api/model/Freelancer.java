@@ -2,14 +2,27 @@ package com.freelaconnect.api.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
-@Table(name = "freelancers")
+@Table(
+    name = "freelancers",
+    indexes = {
+      @Index(name = "idx_freelancers_full_name_id", columnList = "full_name, id"),
+      @Index(name = "idx_freelancers_updated_at", columnList = "updated_at"),
+      @Index(name = "idx_freelancers_average_rating_id", columnList = "average_rating desc, id")
+    })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "freelancers")
+@NaturalIdCache(region = "freelancers-by-user")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,6 +31,7 @@ public class Freelancer {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  @NaturalId
   @OneToOne(optional = false)
   @JoinColumn(name = "user_id", nullable = false, unique = true)
   @JsonIgnore
@@ -33,6 +47,7 @@ public class Freelancer {
   private String skills;
 
   @ManyToMany
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "freelancer-categories")
   @JoinTable(
       name = "freelancer_categories",
       joinColumns = @JoinColumn(name = "freelancer_id"),
@@ -41,7 +56,24 @@ public class Freelancer {
 
   private String whatsapp;
   private String contactEmail;
-  @Lob
-  @Column(columnDefinition = "LONGTEXT")
+  @Column(length = 512)
   private String profilePhotoUrl;
+
+  // Bumped by every change to the public profile, reviews included; the profile ETag.
+  @JsonIgnore
+  @Column(nullable = false, columnDefinition = "bigint default 0")
+  private long revision;
+
+  // Copied from the freelancer_ratings aggregate so the rating sort and filter can use an index.
+  @JsonIgnore
+  @Column(nullable = false, columnDefinition = "double default 0")
+  private double averageRating;
+
+  // Null on profiles untouched since the column was added.
+  @JsonIgnore private Instant updatedAt = Instant.now();
+
+  public void touch() {
+    revision++;
+    updatedAt = Instant.now();
+  }
 }
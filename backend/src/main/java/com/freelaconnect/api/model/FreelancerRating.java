@@ -0,0 +1,99 @@
+package com.freelaconnect.api.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+@Entity
+@Table(name = "freelancer_ratings")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "freelancer-ratings")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FreelancerRating {
+  public static final int MIN_STARS = 1;
+  public static final int MAX_STARS = 5;
+
+  @Id
+  @Column(name = "freelancer_id")
+  private Long freelancerId;
+
+  @Column(nullable = false)
+  private long ratingSum;
+
+  @Column(nullable = false)
+  private long reviewCount;
+
+  @Column(nullable = false)
+  private long stars1;
+
+  @Column(nullable = false)
+  private long stars2;
+
+  @Column(nullable = false)
+  private long stars3;
+
+  @Column(nullable = false)
+  private long stars4;
+
+  @Column(nullable = false)
+  private long stars5;
+
+  @Column(nullable = false)
+  private double averageRating;
+
+  // Null until the first review, and on aggregates that predate it; see RatingBackfillRunner.
+  private Instant lastReviewAt;
+
+  public FreelancerRating(Long freelancerId) {
+    this.freelancerId = freelancerId;
+  }
+
+  public void record(int stars, Instant reviewedAt) {
+    addStars(stars, 1);
+    ratingSum += stars;
+    reviewCount++;
+    averageRating = (double) ratingSum / reviewCount;
+    if (lastReviewAt == null || reviewedAt.isAfter(lastReviewAt)) {
+      lastReviewAt = reviewedAt;
+    }
+  }
+
+  public void reset() {
+    ratingSum = 0;
+    reviewCount = 0;
+    stars1 = stars2 = stars3 = stars4 = stars5 = 0;
+    averageRating = 0.0;
+    lastReviewAt = null;
+  }
+
+  public void addStars(int stars, long count) {
+    switch (stars) {
+      case 1:
+        stars1 += count;
+        break;
+      case 2:
+        stars2 += count;
+        break;
+      case 3:
+        stars3 += count;
+        break;
+      case 4:
+        stars4 += count;
+        break;
+      case 5:
+        stars5 += count;
+        break;
+      default:
+        throw new IllegalArgumentException("Rating must be between 1 and 5");
+    }
+  }
+
+  public long[] getHistogram() {
+    return new long[] {stars1, stars2, stars3, stars4, stars5};
+  }
+}
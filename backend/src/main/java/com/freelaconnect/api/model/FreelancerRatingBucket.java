@@ -0,0 +1,46 @@
+package com.freelaconnect.api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Reviews a freelancer received on one UTC day; feeds the recent rating trend.
+@Entity
+@Table(
+    name = "freelancer_rating_buckets",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_freelancer_rating_buckets_freelancer_date",
+            columnNames = {"freelancer_id", "bucket_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class FreelancerRatingBucket {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "freelancer_id", nullable = false)
+  private Long freelancerId;
+
+  @Column(name = "bucket_date", nullable = false)
+  private LocalDate bucketDate;
+
+  @Column(nullable = false)
+  private long reviewCount;
+
+  @Column(nullable = false)
+  private long ratingSum;
+
+  public FreelancerRatingBucket(Long freelancerId, LocalDate bucketDate) {
+    this.freelancerId = freelancerId;
+    this.bucketDate = bucketDate;
+  }
+
+  public void record(int stars) {
+    reviewCount++;
+    ratingSum += stars;
+  }
+}
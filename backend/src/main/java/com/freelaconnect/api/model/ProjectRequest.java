@@ -8,7 +8,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "project_requests")
+@Table(
+    name = "project_requests",
+    indexes = {
+      @Index(
+          name = "idx_project_requests_freelancer_status_id",
+          columnList = "freelancer_id, status, id"),
+      @Index(name = "idx_project_requests_client_status_id", columnList = "client_id, status, id")
+    })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,9 +1,31 @@
 package com.freelaconnect.api.repository;
 
 import com.freelaconnect.api.model.Category;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
   Optional<Category> findByName(String name);
+
+  List<Category> findByNameIn(Collection<String> names);
+
+  // A locking read sees rows committed after the transaction's snapshot was taken.
+  @Lock(LockModeType.PESSIMISTIC_READ)
+  @Query("select c from Category c where c.name in :names")
+  List<Category> findByNameInForShare(@Param("names") Collection<String> names);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "categories"))
+  @Query(value = "insert ignore into categories (name) values (:name)", nativeQuery = true)
+  int insertIfAbsent(@Param("name") String name);
 }
@@ -0,0 +1,9 @@
+package com.freelaconnect.api.repository;
+
+import com.freelaconnect.api.model.Client;
+import java.util.Optional;
+
+public interface ClientRepositoryCustom {
+  // Resolved through the natural-id cache, so the current client is usually not queried.
+  Optional<Client> findByUserId(Long userId);
+}
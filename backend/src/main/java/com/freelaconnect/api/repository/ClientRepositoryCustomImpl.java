@@ -0,0 +1,22 @@
+package com.freelaconnect.api.repository;
+
+import com.freelaconnect.api.model.Client;
+import com.freelaconnect.api.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+class ClientRepositoryCustomImpl implements ClientRepositoryCustom {
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public Optional<Client> findByUserId(Long userId) {
+    Session session = entityManager.unwrap(Session.class);
+    return session
+        .bySimpleNaturalId(Client.class)
+        .loadOptional(session.getReference(User.class, userId));
+  }
+}
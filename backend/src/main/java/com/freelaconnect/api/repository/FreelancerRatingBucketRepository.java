@@ -0,0 +1,48 @@
+package com.freelaconnect.api.repository;
+
+import com.freelaconnect.api.model.FreelancerRatingBucket;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface FreelancerRatingBucketRepository
+    extends JpaRepository<FreelancerRatingBucket, Long> {
+  @Modifying
+  @QueryHints(
+      @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "freelancer_rating_buckets"))
+  @Query(
+      value =
+          "insert ignore into freelancer_rating_buckets "
+              + "(freelancer_id, bucket_date, review_count, rating_sum) "
+              + "values (:freelancerId, :bucketDate, 0, 0)",
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("freelancerId") Long freelancerId, @Param("bucketDate") LocalDate bucketDate);
+
+  @Modifying
+  @Query(
+      "update FreelancerRatingBucket b set b.reviewCount = b.reviewCount + 1, "
+          + "b.ratingSum = b.ratingSum + :stars "
+          + "where b.freelancerId = :freelancerId and b.bucketDate = :bucketDate")
+  int increment(
+      @Param("freelancerId") Long freelancerId,
+      @Param("bucketDate") LocalDate bucketDate,
+      @Param("stars") int stars);
+
+  @Modifying
+  @Query("delete from FreelancerRatingBucket b where b.freelancerId in :freelancerIds")
+  int deleteByFreelancerIds(@Param("freelancerIds") Collection<Long> freelancerIds);
+
+  @Query(
+      "select b from FreelancerRatingBucket b where b.freelancerId = :freelancerId "
+          + "and b.bucketDate >= :since order by b.bucketDate")
+  List<FreelancerRatingBucket> findSince(
+      @Param("freelancerId") Long freelancerId, @Param("since") LocalDate since);
+}
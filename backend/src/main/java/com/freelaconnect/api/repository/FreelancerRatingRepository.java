@@ -0,0 +1,53 @@
+package com.freelaconnect.api.repository;
+
+import com.freelaconnect.api.model.FreelancerRating;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface FreelancerRatingRepository extends JpaRepository<FreelancerRating, Long> {
+  // Names the table it writes; Hibernate otherwise clears the whole second-level cache.
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "freelancer_ratings"))
+  @Query(
+      value =
+          "insert ignore into freelancer_ratings (freelancer_id, rating_sum, review_count, "
+              + "stars1, stars2, stars3, stars4, stars5, average_rating) "
+              + "values (:freelancerId, 0, 0, 0, 0, 0, 0, 0, 0)",
+      nativeQuery = true)
+  int insertIfAbsent(@Param("freelancerId") Long freelancerId);
+
+  @Query(
+      "select r.freelancerId from FreelancerRating r where r.freelancerId in :freelancerIds")
+  List<Long> findExistingIds(@Param("freelancerIds") Collection<Long> freelancerIds);
+
+  @Query(
+      "select coalesce(sum(r.ratingSum), 0) as ratingSum, "
+          + "coalesce(sum(r.reviewCount), 0) as reviewCount from FreelancerRating r")
+  Totals sumAll();
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select r from FreelancerRating r where r.freelancerId = :freelancerId")
+  Optional<FreelancerRating> findForUpdate(@Param("freelancerId") Long freelancerId);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      "select r from FreelancerRating r where r.freelancerId in :freelancerIds "
+          + "order by r.freelancerId")
+  List<FreelancerRating> findAllForUpdate(@Param("freelancerIds") Collection<Long> freelancerIds);
+
+  interface Totals {
+    long getRatingSum();
+
+    long getReviewCount();
+  }
+}
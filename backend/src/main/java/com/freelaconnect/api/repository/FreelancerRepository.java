@@ -1,13 +1,92 @@
 package com.freelaconnect.api.repository;
 
-import com.freelaconnect.api.model.Category;
 import com.freelaconnect.api.model.Freelancer;
-import com.freelaconnect.api.model.User;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface FreelancerRepository extends JpaRepository<Freelancer, Long> {
-  Optional<Freelancer> findByUser(User user);
+public interface FreelancerRepository
+    extends JpaRepository<Freelancer, Long>,
+        JpaSpecificationExecutor<Freelancer>,
+        FreelancerRepositoryCustom {
   List<Freelancer> findByFullNameContainingIgnoreCase(String name);
+
+  // For updating many freelancers at once: fetches their users in the same query, where
+  // findAllById would load each one separately.
+  @EntityGraph(attributePaths = "user")
+  List<Freelancer> findByIdIn(Collection<Long> ids);
+
+  @Query(
+      "select f.id as id, f.fullName as fullName, f.skills as skills, f.bio as bio "
+          + "from Freelancer f where f.id > :afterId order by f.id")
+  List<SearchRow> findSearchRows(@Param("afterId") Long afterId, Pageable pageable);
+
+  @Query(
+      "select f.id as id, f.fullName as fullName, f.skills as skills, "
+          + "f.profilePhotoUrl as profilePhotoUrl from Freelancer f where f.id in :ids")
+  List<SummaryRow> findSummaryRows(@Param("ids") Collection<Long> ids);
+
+  @Query(
+      "select f.id as freelancerId, c.name as name from Freelancer f join f.categories c "
+          + "where f.id in :ids")
+  List<CategoryName> findCategoryNames(@Param("ids") Collection<Long> ids);
+
+  @Query("select max(f.updatedAt) from Freelancer f")
+  Instant findLatestUpdate();
+
+  @Query(
+      "select f.id as freelancerId, c.id as categoryId from Freelancer f join f.categories c "
+          + "where f.id in :ids")
+  List<CategoryId> findCategoryIds(@Param("ids") Collection<Long> ids);
+
+  @Query(
+      "select f.id as id, f.fullName as fullName, f.profilePhotoUrl as profilePhotoUrl "
+          + "from Freelancer f where f.id > :afterId order by f.id")
+  List<LeaderboardRow> findLeaderboardRows(@Param("afterId") Long afterId, Pageable pageable);
+
+  interface SearchRow {
+    Long getId();
+
+    String getFullName();
+
+    String getSkills();
+
+    String getBio();
+  }
+
+  interface SummaryRow {
+    Long getId();
+
+    String getFullName();
+
+    String getSkills();
+
+    String getProfilePhotoUrl();
+  }
+
+  interface CategoryName {
+    Long getFreelancerId();
+
+    String getName();
+  }
+
+  interface CategoryId {
+    Long getFreelancerId();
+
+    Long getCategoryId();
+  }
+
+  interface LeaderboardRow {
+    Long getId();
+
+    String getFullName();
+
+    String getProfilePhotoUrl();
+  }
 }
@@ -0,0 +1,18 @@
+package com.freelaconnect.api.repository;
+
+import com.freelaconnect.api.model.Freelancer;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface FreelancerRepositoryCustom {
+  /**
+   * Returns only the ids of the matching freelancers, in order, so list endpoints can load the
+   * few columns they show instead of whole entities. A limit of 0 or less returns every match.
+   */
+  List<Long> findIds(Specification<Freelancer> spec, Sort sort, int limit);
+
+  // Resolved through the natural-id cache, so the current freelancer is usually not queried.
+  Optional<Freelancer> findByUserId(Long userId);
+}
@@ -0,0 +1,53 @@
+package com.freelaconnect.api.repository;
+
+import com.freelaconnect.api.model.Freelancer;
+import com.freelaconnect.api.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+class FreelancerRepositoryCustomImpl implements FreelancerRepositoryCustom {
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public List<Long> findIds(Specification<Freelancer> spec, Sort sort, int limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = cb.createQuery(Long.class);
+    Root<Freelancer> root = query.from(Freelancer.class);
+    query.select(root.get("id"));
+    if (spec != null) {
+      Predicate predicate = spec.toPredicate(root, query, cb);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+    }
+    if (sort.isSorted()) {
+      query.orderBy(QueryUtils.toOrders(sort, root, cb));
+    }
+    TypedQuery<Long> typed = entityManager.createQuery(query);
+    if (limit > 0) {
+      typed.setMaxResults(limit);
+    }
+    return typed.getResultList();
+  }
+
+  @Override
+  public Optional<Freelancer> findByUserId(Long userId) {
+    Session session = entityManager.unwrap(Session.class);
+    return session
+        .bySimpleNaturalId(Freelancer.class)
+        .loadOptional(session.getReference(User.class, userId));
+  }
+}
@@ -0,0 +1,38 @@
+package com.freelaconnect.api.repository;
+
+import java.util.Locale;
+import org.springframework.data.domain.Sort;
+
+public enum FreelancerSort {
+  OLDEST(Sort.by(Sort.Direction.ASC, "id")),
+  NEWEST(Sort.by(Sort.Direction.DESC, "id")),
+  NAME(Sort.by(Sort.Direction.ASC, "fullName").and(Sort.by(Sort.Direction.ASC, "id"))),
+  RATING(Sort.by(Sort.Direction.DESC, "averageRating").and(Sort.by(Sort.Direction.ASC, "id"))),
+  // Ordering comes from the search index; only meaningful with search or skill terms.
+  RELEVANCE(Sort.unsorted());
+
+  private final Sort sort;
+
+  FreelancerSort(Sort sort) {
+    this.sort = sort;
+  }
+
+  public Sort getSort() {
+    return sort;
+  }
+
+  public static FreelancerSort parse(String value) {
+    return parse(value, OLDEST);
+  }
+
+  public static FreelancerSort parse(String value, FreelancerSort fallback) {
+    if (value == null || value.isBlank()) {
+      return fallback;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Unknown sort: " + value);
+    }
+  }
+}
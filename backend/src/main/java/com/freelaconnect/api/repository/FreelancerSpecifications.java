@@ -0,0 +1,74 @@
+package com.freelaconnect.api.repository;
+
+import com.freelaconnect.api.model.Category;
+import com.freelaconnect.api.model.Freelancer;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.Locale;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class FreelancerSpecifications {
+  private FreelancerSpecifications() {}
+
+  public static Specification<Freelancer> inCategory(String name) {
+    String lowered = name.toLowerCase(Locale.ROOT);
+    return (root, query, cb) -> {
+      Subquery<Long> sub = query.subquery(Long.class);
+      Root<Freelancer> correlated = sub.correlate(root);
+      Join<Freelancer, Category> category = correlated.join("categories");
+      sub.select(category.get("id")).where(cb.equal(cb.lower(category.get("name")), lowered));
+      return cb.exists(sub);
+    };
+  }
+
+  public static Specification<Freelancer> minRating(double minRating) {
+    return (root, query, cb) -> cb.ge(root.get("averageRating"), minRating);
+  }
+
+  public static Specification<Freelancer> skillContains(String skill) {
+    String pattern = containsPattern(skill);
+    return (root, query, cb) -> cb.like(cb.lower(root.get("skills")), pattern, '\\');
+  }
+
+  public static Specification<Freelancer> nameOrSkillContains(String search) {
+    String pattern = containsPattern(search);
+    return (root, query, cb) ->
+        cb.or(
+            cb.like(cb.lower(root.get("fullName")), pattern, '\\'),
+            cb.like(cb.lower(root.get("skills")), pattern, '\\'));
+  }
+
+  public static Specification<Freelancer> after(FreelancerSort sort, String key, long id) {
+    return (root, query, cb) -> {
+      Path<Long> idPath = root.get("id");
+      switch (sort) {
+        case NEWEST:
+          return cb.lessThan(idPath, id);
+        case NAME:
+          Path<String> name = root.get("fullName");
+          return cb.or(
+              cb.greaterThan(name, key), cb.and(cb.equal(name, key), cb.greaterThan(idPath, id)));
+        case RATING:
+          Path<Double> average = root.get("averageRating");
+          double value = Double.parseDouble(key);
+          return cb.or(
+              cb.lessThan(average, value),
+              cb.and(cb.equal(average, value), cb.greaterThan(idPath, id)));
+        default:
+          return cb.greaterThan(idPath, id);
+      }
+    };
+  }
+
+  private static String containsPattern(String value) {
+    String escaped =
+        value
+            .toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    return "%" + escaped + "%";
+  }
+}
@@ -3,10 +3,82 @@ package com.freelaconnect.api.repository;
 import com.freelaconnect.api.model.Client;
 import com.freelaconnect.api.model.Freelancer;
 import com.freelaconnect.api.model.Project;
+import com.freelaconnect.api.model.ProjectStatus;
+import java.time.Instant;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+  // The legacy project lists serialize both parties, so they are fetched in the same query.
+  @EntityGraph(attributePaths = {"freelancer", "freelancer.categories"})
   List<Project> findByClient(Client client);
+
+  @EntityGraph(attributePaths = {"client", "freelancer", "freelancer.categories"})
   List<Project> findByFreelancer(Freelancer freelancer);
+
+  // Summary rows, newest first: only the counterpart's id and name are joined, plus the review's
+  // stars when there is one. Null filters match everything.
+  String SUMMARY_COLUMNS =
+      "select p.id as id, p.title as title, p.serviceName as serviceName, p.status as status, "
+          + "p.salary as salary, p.createdAt as createdAt, p.updatedAt as updatedAt, ";
+  String SUMMARY_FILTERS =
+      "and p.id < :beforeId "
+          + "and (:status is null or p.status = :status) "
+          + "and (:from is null or p.createdAt >= :from) "
+          + "and (:to is null or p.createdAt < :to) "
+          + "order by p.id desc";
+
+  @Query(
+      SUMMARY_COLUMNS
+          + "f.id as counterpartId, f.fullName as counterpartName, r.rating as rating "
+          + "from Project p join p.freelancer f "
+          + "left join Review r on r.project = p where p.client.id = :clientId "
+          + SUMMARY_FILTERS)
+  List<SummaryRow> findClientSummaryRows(
+      @Param("clientId") Long clientId,
+      @Param("status") ProjectStatus status,
+      @Param("from") Instant from,
+      @Param("to") Instant to,
+      @Param("beforeId") Long beforeId,
+      Pageable pageable);
+
+  @Query(
+      SUMMARY_COLUMNS
+          + "c.id as counterpartId, c.fullName as counterpartName, r.rating as rating "
+          + "from Project p join p.client c "
+          + "left join Review r on r.project = p where p.freelancer.id = :freelancerId "
+          + SUMMARY_FILTERS)
+  List<SummaryRow> findFreelancerSummaryRows(
+      @Param("freelancerId") Long freelancerId,
+      @Param("status") ProjectStatus status,
+      @Param("from") Instant from,
+      @Param("to") Instant to,
+      @Param("beforeId") Long beforeId,
+      Pageable pageable);
+
+  interface SummaryRow {
+    Long getId();
+
+    String getTitle();
+
+    String getServiceName();
+
+    ProjectStatus getStatus();
+
+    Double getSalary();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+
+    Long getCounterpartId();
+
+    String getCounterpartName();
+
+    Integer getRating();
+  }
 }
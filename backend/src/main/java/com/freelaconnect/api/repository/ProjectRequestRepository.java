@@ -1,12 +1,75 @@
 package com.freelaconnect.api.repository;
 
-import com.freelaconnect.api.model.Client;
-import com.freelaconnect.api.model.Freelancer;
 import com.freelaconnect.api.model.ProjectRequest;
+import com.freelaconnect.api.model.RequestStatus;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+// Listings and counts are served by the (freelancer_id, status, id) and (client_id, status, id)
+// indexes on project_requests, newest first.
 public interface ProjectRequestRepository extends JpaRepository<ProjectRequest, Long> {
-  List<ProjectRequest> findByFreelancer(Freelancer freelancer);
-  List<ProjectRequest> findByClient(Client client);
+  String ROW =
+      "select r.id as id, f.id as freelancerId, f.fullName as freelancerName, "
+          + "c.fullName as clientName, r.type as type, r.description as description, "
+          + "r.duration as duration, r.salary as salary, r.status as status "
+          + "from ProjectRequest r join r.freelancer f join r.client c ";
+
+  @Query(
+      ROW
+          + "where r.freelancer.id = :freelancerId and r.status = :status and r.id < :beforeId "
+          + "order by r.id desc")
+  List<RequestRow> findInboxRows(
+      @Param("freelancerId") Long freelancerId,
+      @Param("status") RequestStatus status,
+      @Param("beforeId") Long beforeId,
+      Pageable pageable);
+
+  @Query(
+      ROW
+          + "where r.client.id = :clientId and r.status = :status and r.id < :beforeId "
+          + "order by r.id desc")
+  List<RequestRow> findOutboxRows(
+      @Param("clientId") Long clientId,
+      @Param("status") RequestStatus status,
+      @Param("beforeId") Long beforeId,
+      Pageable pageable);
+
+  @Query(
+      "select r.status as status, count(r) as total from ProjectRequest r where r.freelancer.id = :freelancerId "
+          + "group by r.status")
+  List<StatusCount> countByStatusForFreelancer(@Param("freelancerId") Long freelancerId);
+
+  @Query(
+      "select r.status as status, count(r) as total from ProjectRequest r where r.client.id = :clientId "
+          + "group by r.status")
+  List<StatusCount> countByStatusForClient(@Param("clientId") Long clientId);
+
+  interface RequestRow {
+    Long getId();
+
+    Long getFreelancerId();
+
+    String getFreelancerName();
+
+    String getClientName();
+
+    String getType();
+
+    String getDescription();
+
+    String getDuration();
+
+    String getSalary();
+
+    RequestStatus getStatus();
+  }
+
+  interface StatusCount {
+    RequestStatus getStatus();
+
+    long getTotal();
+  }
 }
@@ -1,18 +1,66 @@
 package com.freelaconnect.api.repository;
 
-import com.freelaconnect.api.model.Freelancer;
 import com.freelaconnect.api.model.Project;
 import com.freelaconnect.api.model.Review;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
   Optional<Review> findByProject(Project project);
-  List<Review> findByFreelancer(Freelancer freelancer);
 
-  @Query("select avg(r.rating) from Review r where r.freelancer = :freelancer")
-  Double getAverageRating(@Param("freelancer") Freelancer freelancer);
+  // Query cache: dropped whenever reviews or clients change.
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query(
+      "select r.id as id, r.rating as rating, r.comment as comment, c.fullName as clientName "
+          + "from Review r join r.client c where r.freelancer.id = :freelancerId order by r.id")
+  List<ReviewRow> findReviewRows(@Param("freelancerId") Long freelancerId);
+
+  @Lock(LockModeType.PESSIMISTIC_READ)
+  @Query(
+      "select r.freelancer.id as freelancerId, r.rating as rating, r.createdAt as createdAt "
+          + "from Review r where r.freelancer.id in :freelancerIds")
+  List<RatingRow> findRatingRows(@Param("freelancerIds") Collection<Long> freelancerIds);
+
+  @Query("select distinct r.freelancer.id from Review r")
+  List<Long> findReviewedFreelancerIds();
+
+  @Query("select distinct r.freelancer.id from Review r where r.client.id = :clientId")
+  List<Long> findReviewedFreelancerIdsByClient(@Param("clientId") Long clientId);
+
+  // Reviewed freelancers whose rollup is missing, predates lastReviewAt and the day buckets, or
+  // has not been copied to freelancers.average_rating yet.
+  @Query(
+      "select distinct r.freelancer.id from Review r where not exists ("
+          + "select fr.freelancerId from FreelancerRating fr "
+          + "where fr.freelancerId = r.freelancer.id and fr.lastReviewAt is not null "
+          + "and fr.averageRating = r.freelancer.averageRating)")
+  List<Long> findFreelancerIdsWithStaleRatings();
+
+  interface ReviewRow {
+    Long getId();
+
+    Integer getRating();
+
+    String getComment();
+
+    String getClientName();
+  }
+
+  interface RatingRow {
+    Long getFreelancerId();
+
+    Integer getRating();
+
+    Instant getCreatedAt();
+  }
 }
@@ -3,8 +3,13 @@ package com.freelaconnect.api.repository;
 import com.freelaconnect.api.model.User;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-  Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
   boolean existsByEmail(String email);
+
+  // A scalar query, so it reads the row rather than a cached User entity.
+  @Query("select u.enabled from User u where u.id = :id")
+  Optional<Boolean> findEnabledById(@Param("id") Long id);
 }
@@ -0,0 +1,9 @@
+package com.freelaconnect.api.repository;
+
+import com.freelaconnect.api.model.User;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+  // Resolved through the natural-id cache, so repeat logins skip the users table.
+  Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,20 @@
+package com.freelaconnect.api.repository;
+
+import com.freelaconnect.api.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+// Read-only like the derived repository methods, which Spring Data runs in a transaction of
+// their own; without open-in-view, unwrap needs one.
+@Transactional(readOnly = true)
+class UserRepositoryCustomImpl implements UserRepositoryCustom {
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public Optional<User> findByEmail(String email) {
+    return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(email);
+  }
+}
@@ -0,0 +1,276 @@
+package com.freelaconnect.api.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory inverted index over freelancer names, skills, categories and bios, ranked with BM25
+ * using per-field weights. The last query token is matched as a prefix so partially typed words
+ * still find results.
+ */
+@Component
+public class FreelancerSearchIndex {
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final double PREFIX_WEIGHT = 0.4;
+  private static final float NAME_WEIGHT = 3.0f;
+  private static final float SKILLS_WEIGHT = 2.0f;
+  private static final float CATEGORY_WEIGHT = 1.5f;
+  private static final float BIO_WEIGHT = 1.0f;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+  private final NavigableMap<String, Set<Long>> skillPostings = new TreeMap<>();
+  private final Map<Long, Document> documents = new HashMap<>();
+  private double totalLength;
+  private volatile boolean ready;
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void markReady() {
+    ready = true;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // Applies the document once the surrounding transaction commits, or right away when there is
+  // none, so rolled-back profile changes never reach the index.
+  public void indexAfterCommit(IndexedFreelancer freelancer) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      index(freelancer);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            index(freelancer);
+          }
+        });
+  }
+
+  public void index(IndexedFreelancer freelancer) {
+    Document document = analyze(freelancer);
+    lock.writeLock().lock();
+    try {
+      removeLocked(document.id);
+      addLocked(document);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // Used by the startup rebuild: a live update that already indexed a newer copy wins.
+  public void indexIfAbsent(IndexedFreelancer freelancer) {
+    Document document = analyze(freelancer);
+    lock.writeLock().lock();
+    try {
+      if (!documents.containsKey(document.id)) {
+        addLocked(document);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long id) {
+    lock.writeLock().lock();
+    try {
+      removeLocked(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public List<Hit> search(String query, String skill, String category, int maxHits) {
+    List<String> queryTokens = TextAnalyzer.tokens(query);
+    List<String> skillTokens = TextAnalyzer.tokens(skill);
+    String categoryKey = category == null ? null : category.toLowerCase(Locale.ROOT);
+    if (queryTokens.isEmpty() && skillTokens.isEmpty()) {
+      return List.of();
+    }
+    lock.readLock().lock();
+    try {
+      Set<Long> skillMatches = skillTokens.isEmpty() ? null : matchSkills(skillTokens);
+      if (skillMatches != null && skillMatches.isEmpty()) {
+        return List.of();
+      }
+      List<String> scoringTokens = queryTokens.isEmpty() ? skillTokens : queryTokens;
+      Map<Long, double[]> scores = new HashMap<>();
+      for (int i = 0; i < scoringTokens.size(); i++) {
+        boolean prefix = i == scoringTokens.size() - 1;
+        scoreToken(scoringTokens.get(i), prefix, i, scoringTokens.size(), scores);
+      }
+      List<Hit> hits = new ArrayList<>();
+      for (Map.Entry<Long, double[]> entry : scores.entrySet()) {
+        double[] perToken = entry.getValue();
+        double total = 0;
+        boolean allMatched = true;
+        for (double score : perToken) {
+          if (score == 0) {
+            allMatched = false;
+            break;
+          }
+          total += score;
+        }
+        Long id = entry.getKey();
+        if (!allMatched || (skillMatches != null && !skillMatches.contains(id))) {
+          continue;
+        }
+        if (categoryKey != null && !documents.get(id).categories.contains(categoryKey)) {
+          continue;
+        }
+        hits.add(new Hit(id, total));
+      }
+      hits.sort(Comparator.comparingDouble(Hit::getScore).reversed().thenComparing(Hit::getId));
+      return hits.size() > maxHits ? new ArrayList<>(hits.subList(0, maxHits)) : hits;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void scoreToken(
+      String token, boolean prefix, int position, int tokenCount, Map<Long, double[]> scores) {
+    Map<String, Map<Long, Float>> terms =
+        prefix
+            ? postings.subMap(token, true, token + Character.MAX_VALUE, true)
+            : postings.containsKey(token)
+                ? Collections.singletonMap(token, postings.get(token))
+                : Collections.emptyMap();
+    int documentCount = documents.size();
+    double averageLength = documentCount == 0 ? 1 : totalLength / documentCount;
+    for (Map.Entry<String, Map<Long, Float>> term : terms.entrySet()) {
+      Map<Long, Float> docs = term.getValue();
+      double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+      double weight = term.getKey().equals(token) ? 1.0 : PREFIX_WEIGHT;
+      for (Map.Entry<Long, Float> posting : docs.entrySet()) {
+        double tf = posting.getValue();
+        double length = documents.get(posting.getKey()).length;
+        double score =
+            weight * idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * length / averageLength));
+        double[] perToken = scores.computeIfAbsent(posting.getKey(), id -> new double[tokenCount]);
+        perToken[position] = Math.max(perToken[position], score);
+      }
+    }
+  }
+
+  private Set<Long> matchSkills(List<String> skillTokens) {
+    Set<Long> result = null;
+    for (String token : skillTokens) {
+      Set<Long> matches = new HashSet<>();
+      for (Set<Long> ids :
+          skillPostings.subMap(token, true, token + Character.MAX_VALUE, true).values()) {
+        matches.addAll(ids);
+      }
+      if (result == null) {
+        result = matches;
+      } else {
+        result.retainAll(matches);
+      }
+      if (result.isEmpty()) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  private Document analyze(IndexedFreelancer freelancer) {
+    Map<String, Float> weights = new HashMap<>();
+    float length = 0;
+    length += addField(weights, TextAnalyzer.tokens(freelancer.getFullName()), NAME_WEIGHT);
+    List<String> skillTokens = TextAnalyzer.tokens(freelancer.getSkills());
+    length += addField(weights, skillTokens, SKILLS_WEIGHT);
+    Set<String> categories = new HashSet<>();
+    for (String name : freelancer.getCategories()) {
+      categories.add(name.toLowerCase(Locale.ROOT));
+      length += addField(weights, TextAnalyzer.tokens(name), CATEGORY_WEIGHT);
+    }
+    length += addField(weights, TextAnalyzer.tokens(freelancer.getBio()), BIO_WEIGHT);
+    return new Document(freelancer.getId(), weights, new HashSet<>(skillTokens), categories, length);
+  }
+
+  private float addField(Map<String, Float> weights, List<String> tokens, float weight) {
+    for (String token : tokens) {
+      weights.merge(token, weight, Float::sum);
+    }
+    return tokens.size() * weight;
+  }
+
+  private void addLocked(Document document) {
+    for (Map.Entry<String, Float> term : document.terms.entrySet()) {
+      postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(document.id, term.getValue());
+    }
+    for (String token : document.skillTerms) {
+      skillPostings.computeIfAbsent(token, key -> new HashSet<>()).add(document.id);
+    }
+    documents.put(document.id, document);
+    totalLength += document.length;
+  }
+
+  private void removeLocked(Long id) {
+    Document existing = documents.remove(id);
+    if (existing == null) {
+      return;
+    }
+    totalLength -= existing.length;
+    for (String term : existing.terms.keySet()) {
+      Map<Long, Float> docs = postings.get(term);
+      if (docs != null) {
+        docs.remove(id);
+        if (docs.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+    for (String token : existing.skillTerms) {
+      Set<Long> ids = skillPostings.get(token);
+      if (ids != null) {
+        ids.remove(id);
+        if (ids.isEmpty()) {
+          skillPostings.remove(token);
+        }
+      }
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Hit {
+    private final Long id;
+    private final double score;
+  }
+
+  @AllArgsConstructor
+  private static class Document {
+    private final Long id;
+    private final Map<String, Float> terms;
+    private final Set<String> skillTerms;
+    private final Set<String> categories;
+    private final float length;
+  }
+}
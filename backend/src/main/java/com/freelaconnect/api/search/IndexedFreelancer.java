@@ -0,0 +1,27 @@
+package com.freelaconnect.api.search;
+
+import com.freelaconnect.api.model.Category;
+import com.freelaconnect.api.model.Freelancer;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IndexedFreelancer {
+  private final Long id;
+  private final String fullName;
+  private final String skills;
+  private final String bio;
+  private final List<String> categories;
+
+  public static IndexedFreelancer of(Freelancer freelancer) {
+    return new IndexedFreelancer(
+        freelancer.getId(),
+        freelancer.getFullName(),
+        freelancer.getSkills(),
+        freelancer.getBio(),
+        freelancer.getCategories().stream().map(Category::getName).collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,78 @@
+package com.freelaconnect.api.search;
+
+import com.freelaconnect.api.repository.FreelancerRepository;
+import com.freelaconnect.api.repository.FreelancerRepository.CategoryName;
+import com.freelaconnect.api.repository.FreelancerRepository.SearchRow;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchIndexRebuilder {
+  private static final Logger log = LoggerFactory.getLogger(SearchIndexRebuilder.class);
+  private static final int BATCH_SIZE = 500;
+
+  private final FreelancerRepository freelancerRepository;
+  private final FreelancerSearchIndex searchIndex;
+
+  public SearchIndexRebuilder(
+      FreelancerRepository freelancerRepository, FreelancerSearchIndex searchIndex) {
+    this.freelancerRepository = freelancerRepository;
+    this.searchIndex = searchIndex;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildInBackground() {
+    Thread thread = new Thread(this::rebuild, "search-index-rebuild");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  public void rebuild() {
+    long started = System.nanoTime();
+    long lastId = 0;
+    try {
+      while (true) {
+        List<SearchRow> rows =
+            freelancerRepository.findSearchRows(lastId, PageRequest.of(0, BATCH_SIZE));
+        if (rows.isEmpty()) {
+          break;
+        }
+        List<Long> ids = new ArrayList<>();
+        for (SearchRow row : rows) {
+          ids.add(row.getId());
+        }
+        Map<Long, List<String>> categories = new HashMap<>();
+        for (CategoryName row : freelancerRepository.findCategoryNames(ids)) {
+          categories
+              .computeIfAbsent(row.getFreelancerId(), id -> new ArrayList<>())
+              .add(row.getName());
+        }
+        for (SearchRow row : rows) {
+          searchIndex.indexIfAbsent(
+              new IndexedFreelancer(
+                  row.getId(),
+                  row.getFullName(),
+                  row.getSkills(),
+                  row.getBio(),
+                  categories.getOrDefault(row.getId(), List.of())));
+        }
+        lastId = ids.get(ids.size() - 1);
+      }
+      searchIndex.markReady();
+      log.info(
+          "Search index built with {} freelancers in {} ms",
+          searchIndex.size(),
+          (System.nanoTime() - started) / 1_000_000);
+    } catch (RuntimeException ex) {
+      log.error("Search index rebuild failed; search falls back to SQL matching", ex);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.freelaconnect.api.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class TextAnalyzer {
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+  private static final Set<String> STOP_WORDS =
+      Set.of(
+          "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "i", "in", "is", "it",
+          "my", "of", "on", "or", "the", "to", "with");
+
+  private TextAnalyzer() {}
+
+  public static List<String> tokens(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null || text.isBlank()) {
+      return tokens;
+    }
+    String folded =
+        MARKS
+            .matcher(Normalizer.normalize(text, Normalizer.Form.NFKD))
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+    for (String token : SEPARATORS.split(folded)) {
+      if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+        tokens.add(token);
+      }
+    }
+    return tokens;
+  }
+}
@@ -0,0 +1,113 @@
+package com.freelaconnect.api.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs a CPU-heavy {@link PasswordEncoder} on a fixed pool sized to the machine, so a burst of
+ * sign-ins cannot occupy every request thread. When the pool and its bounded queue are full the
+ * call fails immediately with {@link PasswordHashingBusyException}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long retryAfterSeconds;
+  private final Timer encodeTimer;
+  private final Timer matchTimer;
+  private final Counter rejected;
+
+  public BoundedPasswordEncoder(
+      PasswordEncoder delegate,
+      int threads,
+      int queueCapacity,
+      Duration retryAfter,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    AtomicInteger counter = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+              Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    this.retryAfterSeconds = Math.max(1, retryAfter.getSeconds());
+    this.encodeTimer = hashTimer("encode", meterRegistry);
+    this.matchTimer = hashTimer("match", meterRegistry);
+    this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+    Gauge.builder("password.hash.queue", executor, pool -> pool.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return run(encodeTimer, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(matchTimer, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private <T> T run(Timer timer, Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(() -> timer.recordCallable(task));
+    } catch (RejectedExecutionException ex) {
+      rejected.increment();
+      throw new PasswordHashingBusyException(retryAfterSeconds);
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while hashing password", ex);
+    } catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException("Password hashing failed", cause);
+    }
+  }
+
+  private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+    return Timer.builder("password.hash")
+        .tag("operation", operation)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+}
@@ -4,12 +4,13 @@ import com.freelaconnect.api.model.User;
 import com.freelaconnect.api.repository.UserRepository;
 import java.util.Optional;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
   private final UserRepository userRepository;
 
   public CustomUserDetailsService(UserRepository userRepository) {
@@ -22,4 +23,16 @@ public class CustomUserDetailsService implements UserDetailsService {
     User found = user.orElseThrow(() -> new UsernameNotFoundException("User not found"));
     return new UserPrincipal(found.getId(), found.getEmail(), found.getPassword(), found.getRole());
   }
+
+  @Override
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    UserPrincipal principal = (UserPrincipal) userDetails;
+    User user =
+        userRepository
+            .findById(principal.getId())
+            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    user.setPassword(newPassword);
+    userRepository.save(user);
+    return new UserPrincipal(user.getId(), user.getEmail(), newPassword, user.getRole());
+  }
 }
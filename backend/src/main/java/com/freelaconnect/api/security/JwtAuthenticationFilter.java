@@ -1,13 +1,16 @@
 package com.freelaconnect.api.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,11 +19,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private final JwtTokenProvider tokenProvider;
   private final CustomUserDetailsService userDetailsService;
+  private final UserStatusCache userStatusCache;
+  private final Timer principalLookupTimer;
 
   public JwtAuthenticationFilter(
-      JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService) {
+      JwtTokenProvider tokenProvider,
+      CustomUserDetailsService userDetailsService,
+      UserStatusCache userStatusCache,
+      MeterRegistry meterRegistry) {
     this.tokenProvider = tokenProvider;
     this.userDetailsService = userDetailsService;
+    this.userStatusCache = userStatusCache;
+    this.principalLookupTimer = Timer.builder("auth.principal.lookup").register(meterRegistry);
   }
 
   @Override
@@ -30,9 +40,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String header = request.getHeader("Authorization");
     if (header != null && header.startsWith("Bearer ")) {
       String token = header.substring(7);
-      if (tokenProvider.validateToken(token)) {
-        String username = tokenProvider.getUsernameFromToken(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+      Claims claims = tokenProvider.verify(token);
+      if (claims != null) {
+        long start = System.nanoTime();
+        UserPrincipal userDetails = tokenProvider.toPrincipal(claims);
+        if (userDetails == null) {
+          userDetails = (UserPrincipal) userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        boolean enabled = userStatusCache.isEnabled(userDetails.getId());
+        principalLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!enabled) {
+          filterChain.doFilter(request, response);
+          return;
+        }
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
@@ -1,24 +1,65 @@
 package com.freelaconnect.api.security;
 
+import com.freelaconnect.api.model.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtTokenProvider {
+  private static final String USER_ID_CLAIM = "uid";
+  private static final String ROLE_CLAIM = "role";
+  // Upper bound for cached entries of tokens without an expiry claim.
+  private static final long MAX_CACHE_TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
   private final Key key;
   private final long expirationMs;
+  private final JwtParser parser;
+  private final Cache<String, Claims> verifiedTokens;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+  private final Counter rejected;
+  private final Timer verifyTimer;
 
   public JwtTokenProvider(
-      @Value("${app.jwt.secret}") String secret, @Value("${app.jwt.expiration-ms}") long expirationMs) {
+      @Value("${app.jwt.secret}") String secret,
+      @Value("${app.jwt.expiration-ms}") long expirationMs,
+      @Value("${app.jwt.verified-cache-size}") long verifiedCacheSize,
+      MeterRegistry meterRegistry) {
     this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     this.expirationMs = expirationMs;
+    this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+    this.verifiedTokens =
+        verifiedCacheSize > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build()
+            : null;
+    this.cacheHits =
+        Counter.builder("jwt.verify.cache").tag("result", "hit").register(meterRegistry);
+    this.cacheMisses =
+        Counter.builder("jwt.verify.cache").tag("result", "miss").register(meterRegistry);
+    this.rejected = Counter.builder("jwt.verify.rejected").register(meterRegistry);
+    this.verifyTimer = Timer.builder("jwt.verify").register(meterRegistry);
   }
 
   public String generateToken(UserPrincipal principal) {
@@ -26,23 +67,93 @@ public class JwtTokenProvider {
     Date expiry = new Date(now.getTime() + expirationMs);
     return Jwts.builder()
         .setSubject(principal.getEmail())
-        .claim("role", principal.getRole().name())
+        .claim(USER_ID_CLAIM, principal.getId())
+        .claim(ROLE_CLAIM, principal.getRole().name())
         .setIssuedAt(now)
         .setExpiration(expiry)
         .signWith(key, SignatureAlgorithm.HS256)
         .compact();
   }
 
-  public String getUsernameFromToken(String token) {
-    return getClaims(token).getSubject();
+  /**
+   * Parses and verifies the token once and returns its claims, or null when the token is
+   * malformed, badly signed or expired. Tokens that verified recently are served from a cache
+   * keyed by their SHA-256 digest until they expire.
+   */
+  public Claims verify(String token) {
+    long start = System.nanoTime();
+    try {
+      if (verifiedTokens == null) {
+        return parse(token);
+      }
+      String digest = digest(token);
+      Claims claims = verifiedTokens.getIfPresent(digest);
+      if (claims != null) {
+        cacheHits.increment();
+        return claims;
+      }
+      cacheMisses.increment();
+      claims = parse(token);
+      if (claims != null) {
+        verifiedTokens.put(digest, claims);
+      }
+      return claims;
+    } finally {
+      verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  // Returns null for tokens issued before the user id claim was added; callers fall back to a
+  // lookup by email for those until they expire.
+  public UserPrincipal toPrincipal(Claims claims) {
+    Long userId = claims.get(USER_ID_CLAIM, Long.class);
+    String role = claims.get(ROLE_CLAIM, String.class);
+    if (userId == null || role == null) {
+      return null;
+    }
+    return new UserPrincipal(userId, claims.getSubject(), null, Role.valueOf(role));
   }
 
-  public boolean validateToken(String token) {
-    getClaims(token);
-    return true;
+  private Claims parse(String token) {
+    try {
+      return parser.parseClaimsJws(token).getBody();
+    } catch (JwtException | IllegalArgumentException ex) {
+      rejected.increment();
+      return null;
+    }
   }
 
-  private Claims getClaims(String token) {
-    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+  private static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static class UntilTokenExpiry implements Expiry<String, Claims> {
+    @Override
+    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+      Date expiration = claims.getExpiration();
+      if (expiration == null) {
+        return MAX_CACHE_TTL_NANOS;
+      }
+      long remainingMs = expiration.getTime() - System.currentTimeMillis();
+      return Math.max(0, Math.min(TimeUnit.MILLISECONDS.toNanos(remainingMs), MAX_CACHE_TTL_NANOS));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String digest, Claims claims, long currentTime, long currentDuration) {
+      return expireAfterCreate(digest, claims, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String digest, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
   }
 }
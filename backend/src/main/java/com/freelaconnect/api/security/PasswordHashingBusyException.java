@@ -0,0 +1,14 @@
+package com.freelaconnect.api.security;
+
+public class PasswordHashingBusyException extends RuntimeException {
+  private final long retryAfterSeconds;
+
+  public PasswordHashingBusyException(long retryAfterSeconds) {
+    super("Too many sign-in requests, please retry shortly");
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
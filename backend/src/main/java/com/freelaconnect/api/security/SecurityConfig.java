@@ -1,11 +1,18 @@
 package com.freelaconnect.api.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -14,6 +21,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -22,6 +30,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
+  static final String MANAGEMENT_TOKEN_HEADER = "X-Management-Token";
+
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
   private final CustomUserDetailsService userDetailsService;
 
@@ -32,31 +42,56 @@ public class SecurityConfig {
   }
 
   @Bean
-  public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+  public SecurityFilterChain securityFilterChain(
+      HttpSecurity http,
+      AuthenticationProvider authenticationProvider,
+      @Value("${app.management.token}") String managementToken)
+      throws Exception {
     http.csrf(csrf -> csrf.disable())
         .cors(Customizer.withDefaults())
         .sessionManagement(
             session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(
             auth ->
-                auth.requestMatchers("/api/auth/**", "/api/categories/**")
+                auth.requestMatchers("/api/auth/**", "/api/categories/**", "/actuator/health")
+                    .permitAll()
+                    // Checked against app.import.token by the controller.
+                    .requestMatchers(HttpMethod.POST, "/api/admin/import/**")
                     .permitAll()
+                    .requestMatchers("/actuator/**")
+                    .access(hasManagementToken(managementToken))
                     .requestMatchers(HttpMethod.OPTIONS, "/**")
                     .permitAll()
-                    .requestMatchers(HttpMethod.GET, "/api/freelancers/**")
+                    .requestMatchers(HttpMethod.GET, "/api/freelancers/**", "/api/photos/**")
                     .permitAll()
                     .anyRequest()
                     .authenticated())
-        .authenticationProvider(authenticationProvider())
+        .authenticationProvider(authenticationProvider)
         .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
     return http.build();
   }
 
+  // Metrics are for operators, not for every signed-in user; none are served while the token is
+  // empty.
+  private static AuthorizationManager<RequestAuthorizationContext> hasManagementToken(
+      String managementToken) {
+    byte[] expected = managementToken.getBytes(StandardCharsets.UTF_8);
+    return (authentication, context) -> {
+      String token = context.getRequest().getHeader(MANAGEMENT_TOKEN_HEADER);
+      return new AuthorizationDecision(
+          expected.length > 0
+              && token != null
+              && MessageDigest.isEqual(expected, token.getBytes(StandardCharsets.UTF_8)));
+    };
+  }
+
   @Bean
-  public AuthenticationProvider authenticationProvider() {
+  public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
     DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
     provider.setUserDetailsService(userDetailsService);
-    provider.setPasswordEncoder(passwordEncoder());
+    // Re-hashes passwords stored with a lower BCrypt cost after a successful login.
+    provider.setUserDetailsPasswordService(userDetailsService);
+    provider.setPasswordEncoder(passwordEncoder);
     return provider;
   }
 
@@ -67,8 +102,18 @@ public class SecurityConfig {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      @Value("${app.security.bcrypt-strength}") int bcryptStrength,
+      @Value("${app.security.password-hashing.threads}") int threads,
+      @Value("${app.security.password-hashing.queue-capacity}") int queueCapacity,
+      @Value("${app.security.password-hashing.retry-after}") Duration retryAfter,
+      MeterRegistry meterRegistry) {
+    return new BoundedPasswordEncoder(
+        new BCryptPasswordEncoder(bcryptStrength),
+        threads,
+        queueCapacity,
+        retryAfter,
+        meterRegistry);
   }
 
   @Bean
@@ -0,0 +1,34 @@
+package com.freelaconnect.api.security;
+
+import com.freelaconnect.api.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers whether a user account may still authenticate, so token-authenticated requests only
+ * reach the database once per user per expiry window. Nothing in the API disables accounts; one
+ * disabled or deleted in the database keeps its tokens working until its entry expires
+ * ({@code app.security.user-status-cache.expire-after-write}).
+ */
+@Component
+public class UserStatusCache {
+  private final UserRepository userRepository;
+  private final Cache<Long, Boolean> enabledByUserId;
+
+  public UserStatusCache(
+      UserRepository userRepository,
+      @Value("${app.security.user-status-cache.maximum-size}") long maximumSize,
+      @Value("${app.security.user-status-cache.expire-after-write}") Duration expireAfterWrite) {
+    this.userRepository = userRepository;
+    this.enabledByUserId =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+  }
+
+  public boolean isEnabled(Long userId) {
+    // Read past the second-level cache, whose users region would stretch the expiry window.
+    return enabledByUserId.get(userId, id -> userRepository.findEnabledById(id).orElse(false));
+  }
+}
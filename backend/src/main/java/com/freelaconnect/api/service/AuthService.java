@@ -4,15 +4,17 @@ import com.freelaconnect.api.dto.AuthDtos.AuthResponse;
 import com.freelaconnect.api.dto.AuthDtos.LoginRequest;
 import com.freelaconnect.api.dto.AuthDtos.RegisterClientRequest;
 import com.freelaconnect.api.dto.AuthDtos.RegisterFreelancerRequest;
-import com.freelaconnect.api.model.Category;
+import com.freelaconnect.api.leaderboard.CategoryLeaderboards;
+import com.freelaconnect.api.leaderboard.RankedFreelancer;
 import com.freelaconnect.api.model.Client;
 import com.freelaconnect.api.model.Freelancer;
 import com.freelaconnect.api.model.Role;
 import com.freelaconnect.api.model.User;
-import com.freelaconnect.api.repository.CategoryRepository;
 import com.freelaconnect.api.repository.ClientRepository;
 import com.freelaconnect.api.repository.FreelancerRepository;
 import com.freelaconnect.api.repository.UserRepository;
+import com.freelaconnect.api.search.FreelancerSearchIndex;
+import com.freelaconnect.api.search.IndexedFreelancer;
 import com.freelaconnect.api.security.JwtTokenProvider;
 import com.freelaconnect.api.security.UserPrincipal;
 import jakarta.transaction.Transactional;
@@ -27,26 +29,35 @@ public class AuthService {
   private final UserRepository userRepository;
   private final ClientRepository clientRepository;
   private final FreelancerRepository freelancerRepository;
-  private final CategoryRepository categoryRepository;
+  private final CategoryRegistry categoryRegistry;
   private final PasswordEncoder passwordEncoder;
   private final AuthenticationManager authenticationManager;
   private final JwtTokenProvider tokenProvider;
+  private final PhotoStore photoStore;
+  private final FreelancerSearchIndex searchIndex;
+  private final CategoryLeaderboards leaderboards;
 
   public AuthService(
       UserRepository userRepository,
       ClientRepository clientRepository,
       FreelancerRepository freelancerRepository,
-      CategoryRepository categoryRepository,
+      CategoryRegistry categoryRegistry,
       PasswordEncoder passwordEncoder,
       AuthenticationManager authenticationManager,
-      JwtTokenProvider tokenProvider) {
+      JwtTokenProvider tokenProvider,
+      PhotoStore photoStore,
+      FreelancerSearchIndex searchIndex,
+      CategoryLeaderboards leaderboards) {
     this.userRepository = userRepository;
     this.clientRepository = clientRepository;
     this.freelancerRepository = freelancerRepository;
-    this.categoryRepository = categoryRepository;
+    this.categoryRegistry = categoryRegistry;
     this.passwordEncoder = passwordEncoder;
     this.authenticationManager = authenticationManager;
     this.tokenProvider = tokenProvider;
+    this.photoStore = photoStore;
+    this.searchIndex = searchIndex;
+    this.leaderboards = leaderboards;
   }
 
   @Transactional
@@ -64,7 +75,7 @@ public class AuthService {
     client.setUser(user);
     client.setFullName(request.getFullName());
     client.setCompany(request.getCompany());
-    client.setProfilePhotoUrl(request.getProfilePhotoUrl());
+    client.setProfilePhotoUrl(photoStore.toReference(request.getProfilePhotoUrl()));
     clientRepository.save(client);
 
     return buildAuthResponse(user);
@@ -88,26 +99,13 @@ public class AuthService {
     freelancer.setSkills(request.getSkills());
     freelancer.setWhatsapp(request.getWhatsapp());
     freelancer.setContactEmail(request.getContactEmail());
-    freelancer.setProfilePhotoUrl(request.getProfilePhotoUrl());
+    freelancer.setProfilePhotoUrl(photoStore.toReference(request.getProfilePhotoUrl()));
     if (request.getCategoryNames() != null) {
-      java.util.Set<Category> categories =
-          request.getCategoryNames().stream()
-              .filter(name -> name != null && !name.isBlank())
-              .map(String::trim)
-              .map(
-                  name ->
-                      categoryRepository
-                          .findByName(name)
-                          .orElseGet(
-                              () -> {
-                                Category created = new Category();
-                                created.setName(name);
-                                return categoryRepository.save(created);
-                              }))
-              .collect(java.util.stream.Collectors.toSet());
-      freelancer.setCategories(categories);
+      freelancer.setCategories(categoryRegistry.resolve(request.getCategoryNames()));
     }
     freelancerRepository.save(freelancer);
+    searchIndex.indexAfterCommit(IndexedFreelancer.of(freelancer));
+    leaderboards.updateProfileAfterCommit(RankedFreelancer.of(freelancer));
 
     return buildAuthResponse(user);
   }
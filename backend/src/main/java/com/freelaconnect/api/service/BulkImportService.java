@@ -0,0 +1,646 @@
+package com.freelaconnect.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelaconnect.api.dto.ImportDtos.AccountRecord;
+import com.freelaconnect.api.dto.ImportDtos.ClientRecord;
+import com.freelaconnect.api.dto.ImportDtos.FreelancerRecord;
+import com.freelaconnect.api.dto.ImportDtos.ImportResult;
+import com.freelaconnect.api.dto.ImportDtos.RejectedRow;
+import com.freelaconnect.api.dto.ImportDtos.ReviewRecord;
+import com.freelaconnect.api.leaderboard.CategoryLeaderboards;
+import com.freelaconnect.api.leaderboard.RankedFreelancer;
+import com.freelaconnect.api.model.Category;
+import com.freelaconnect.api.model.ProjectStatus;
+import com.freelaconnect.api.model.Role;
+import com.freelaconnect.api.search.FreelancerSearchIndex;
+import com.freelaconnect.api.search.IndexedFreelancer;
+import com.freelaconnect.api.service.PhotoStore.DecodedPhoto;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Imports freelancers, clients and reviews in chunks. Each chunk is validated, checked against
+ * existing emails in one query, hashed in parallel and written with batched JDBC inserts in a
+ * single transaction, so a 100k-row file costs a few hundred round trips instead of several
+ * statements per row. Bad rows are rejected with their line number; the rest of the file still
+ * imports.
+ */
+@Service
+public class BulkImportService implements DisposableBean {
+  public static final String FREELANCERS = "freelancers";
+  public static final String CLIENTS = "clients";
+  public static final String REVIEWS = "reviews";
+
+  private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+  private static final Pattern BCRYPT_HASH =
+      Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+  private static final String DEFAULT_REVIEW_TITLE = "Imported review";
+
+  private final JdbcTemplate jdbc;
+  private final NamedParameterJdbcTemplate namedJdbc;
+  private final TransactionTemplate transaction;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final CategoryRegistry categoryRegistry;
+  private final PhotoStore photoStore;
+  private final FreelancerSearchIndex searchIndex;
+  private final CategoryLeaderboards leaderboards;
+  private final FreelancerRatingService ratingService;
+  private final MeterRegistry meterRegistry;
+  private final Cache secondLevelCache;
+  private final PasswordEncoder passwordEncoder;
+  private final ExecutorService hashExecutor;
+  private final int chunkSize;
+
+  public BulkImportService(
+      JdbcTemplate jdbc,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      Validator validator,
+      CategoryRegistry categoryRegistry,
+      PhotoStore photoStore,
+      FreelancerSearchIndex searchIndex,
+      CategoryLeaderboards leaderboards,
+      FreelancerRatingService ratingService,
+      MeterRegistry meterRegistry,
+      EntityManagerFactory entityManagerFactory,
+      @Value("${app.security.bcrypt-strength}") int bcryptStrength,
+      @Value("${app.import.hash-threads}") int hashThreads,
+      @Value("${app.import.chunk-size}") int chunkSize) {
+    this.jdbc = jdbc;
+    this.namedJdbc = new NamedParameterJdbcTemplate(jdbc);
+    this.transaction = new TransactionTemplate(transactionManager);
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.categoryRegistry = categoryRegistry;
+    this.photoStore = photoStore;
+    this.searchIndex = searchIndex;
+    this.leaderboards = leaderboards;
+    this.ratingService = ratingService;
+    this.meterRegistry = meterRegistry;
+    this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    // Imports hash on their own pool so a large file never fills the sign-in hashing queue.
+    this.passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+    int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+    AtomicInteger counter = new AtomicInteger();
+    this.hashExecutor =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "import-hash-" + counter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  public ImportResult importRecords(
+      String type, ImportRecordReader reader, int maxReportedRejections) {
+    String normalized = type == null ? "" : type.trim().toLowerCase(Locale.ROOT);
+    if (FREELANCERS.equals(normalized)) {
+      return run(
+          FREELANCERS,
+          FreelancerRecord.class,
+          this::writeFreelancers,
+          reader,
+          maxReportedRejections);
+    }
+    if (CLIENTS.equals(normalized)) {
+      return run(CLIENTS, ClientRecord.class, this::writeClients, reader, maxReportedRejections);
+    }
+    if (REVIEWS.equals(normalized)) {
+      return run(REVIEWS, ReviewRecord.class, this::writeReviews, reader, maxReportedRejections);
+    }
+    throw new IllegalArgumentException(
+        "Unknown import type: " + type + ". Use freelancers, clients or reviews.");
+  }
+
+  @Override
+  public void destroy() {
+    hashExecutor.shutdownNow();
+  }
+
+  private <T> ImportResult run(
+      String type,
+      Class<T> recordType,
+      ChunkWriter<T> writer,
+      ImportRecordReader reader,
+      int maxReportedRejections) {
+    long started = System.nanoTime();
+    Rejections rejections = new Rejections(type, maxReportedRejections);
+    long processed = 0;
+    long imported = 0;
+    List<Pending<T>> chunk = new ArrayList<>(chunkSize);
+    ImportRecordReader.Row row;
+    while ((row = reader.next()) != null) {
+      processed++;
+      if (row.getError() != null) {
+        rejections.add(row.getLine(), row.getError());
+        continue;
+      }
+      T record;
+      try {
+        record = objectMapper.treeToValue(row.getNode(), recordType);
+      } catch (JsonProcessingException ex) {
+        rejections.add(row.getLine(), "Invalid field value: " + ex.getOriginalMessage());
+        continue;
+      }
+      String violation = validate(record);
+      if (violation != null) {
+        rejections.add(row.getLine(), violation);
+        continue;
+      }
+      chunk.add(new Pending<>(row.getLine(), record));
+      if (chunk.size() >= chunkSize) {
+        imported += write(type, writer, chunk, rejections);
+        chunk.clear();
+        log.info(
+            "Import of {}: {} rows read, {} imported, {} rejected, {} rows/s",
+            type,
+            processed,
+            imported,
+            rejections.count,
+            processed * 1_000_000_000L / Math.max(1, System.nanoTime() - started));
+      }
+    }
+    if (!chunk.isEmpty()) {
+      imported += write(type, writer, chunk, rejections);
+    }
+
+    ImportResult result = new ImportResult();
+    result.setType(type);
+    result.setProcessed(processed);
+    result.setImported(imported);
+    result.setRejectedCount(rejections.count);
+    rejections.reported.sort(Comparator.comparingLong(RejectedRow::getLine));
+    result.setRejected(rejections.reported);
+    result.setElapsedMs((System.nanoTime() - started) / 1_000_000);
+    log.info(
+        "Import of {} finished: {} rows, {} imported, {} rejected in {} ms",
+        type,
+        processed,
+        imported,
+        rejections.count,
+        result.getElapsedMs());
+    return result;
+  }
+
+  private <T> int write(
+      String type, ChunkWriter<T> writer, List<Pending<T>> chunk, Rejections rejections) {
+    int imported;
+    try {
+      imported = writer.write(chunk, rejections);
+    } catch (DuplicateKeyException ex) {
+      // A concurrent sign-up took one of the emails after the chunk was checked; the whole chunk
+      // rolled back, so report every row and let the caller re-submit them.
+      for (Pending<T> pending : chunk) {
+        rejections.add(pending.line, "Conflicted with a concurrent write, please retry");
+      }
+      imported = 0;
+    }
+    if (imported > 0) {
+      // The JDBC inserts bypass Hibernate, so cached query results would not see the new rows.
+      secondLevelCache.evictQueryRegions();
+    }
+    meterRegistry.counter("import.rows", "type", type, "result", "imported").increment(imported);
+    return imported;
+  }
+
+  private int writeFreelancers(List<Pending<FreelancerRecord>> chunk, Rejections rejections) {
+    List<Pending<FreelancerRecord>> accepted = withNewEmails(chunk, rejections);
+    List<String> photos = new ArrayList<>();
+    List<DecodedPhoto> decodedPhotos = new ArrayList<>();
+    List<Pending<FreelancerRecord>> withPhotos = new ArrayList<>();
+    Set<String> categoryNames = new LinkedHashSet<>();
+    for (Pending<FreelancerRecord> pending : accepted) {
+      String photoUrl = pending.record.getProfilePhotoUrl();
+      try {
+        if (PhotoStore.isDataUrl(photoUrl)) {
+          DecodedPhoto photo = photoStore.decodeDataUrl(photoUrl.trim());
+          decodedPhotos.add(photo);
+          photos.add(photo.getReference());
+        } else {
+          photos.add(photoStore.toReference(photoUrl));
+        }
+      } catch (IllegalArgumentException ex) {
+        rejections.add(pending.line, ex.getMessage());
+        continue;
+      }
+      withPhotos.add(pending);
+      if (pending.record.getCategoryNames() != null) {
+        categoryNames.addAll(pending.record.getCategoryNames());
+      }
+    }
+    if (withPhotos.isEmpty()) {
+      return 0;
+    }
+    Map<String, Category> categories = new HashMap<>();
+    for (Category category : categoryRegistry.resolve(categoryNames)) {
+      categories.put(categoryKey(category.getName()), category);
+    }
+    List<String> hashes = hashPasswords(withPhotos);
+
+    List<List<Category>> linked = new ArrayList<>();
+    List<Long> freelancerIds =
+        transaction.execute(
+            status -> {
+              List<Long> userIds = insertUsers(withPhotos, hashes, Role.FREELANCER);
+              Timestamp now = Timestamp.from(Instant.now());
+              List<Object[]> rows = new ArrayList<>();
+              for (int i = 0; i < withPhotos.size(); i++) {
+                FreelancerRecord record = withPhotos.get(i).record;
+                rows.add(
+                    new Object[] {
+                      userIds.get(i),
+                      record.getFullName().trim(),
+                      record.getBio(),
+                      record.getSkills(),
+                      record.getWhatsapp(),
+                      record.getContactEmail(),
+                      photos.get(i),
+                      0L,
+                      now
+                    });
+              }
+              List<Long> ids =
+                  insertReturningIds(
+                      "insert into freelancers (user_id, full_name, bio, skills, whatsapp, "
+                          + "contact_email, profile_photo_url, revision, updated_at) "
+                          + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                      rows);
+              List<Object[]> links = new ArrayList<>();
+              for (int i = 0; i < withPhotos.size(); i++) {
+                List<Category> own = categoriesOf(withPhotos.get(i).record, categories);
+                linked.add(own);
+                for (Category category : own) {
+                  links.add(new Object[] {ids.get(i), category.getId()});
+                }
+              }
+              if (!links.isEmpty()) {
+                jdbc.batchUpdate(
+                    "insert into freelancer_categories (freelancer_id, category_id) values (?, ?)",
+                    links);
+              }
+              // A rolled-back chunk must not leave files behind.
+              TransactionSynchronizationManager.registerSynchronization(
+                  new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                      decodedPhotos.forEach(photoStore::save);
+                    }
+                  });
+              return ids;
+            });
+
+    for (int i = 0; i < withPhotos.size(); i++) {
+      FreelancerRecord record = withPhotos.get(i).record;
+      List<String> names = new ArrayList<>();
+      linked.get(i).forEach(category -> names.add(category.getName()));
+      searchIndex.index(
+          new IndexedFreelancer(
+              freelancerIds.get(i),
+              record.getFullName().trim(),
+              record.getSkills(),
+              record.getBio(),
+              names));
+      List<Long> categoryIds = new ArrayList<>();
+      linked.get(i).forEach(category -> categoryIds.add(category.getId()));
+      leaderboards.updateProfile(
+          new RankedFreelancer(
+              freelancerIds.get(i), record.getFullName().trim(), photos.get(i), categoryIds));
+    }
+    return withPhotos.size();
+  }
+
+  private int writeClients(List<Pending<ClientRecord>> chunk, Rejections rejections) {
+    List<Pending<ClientRecord>> accepted = withNewEmails(chunk, rejections);
+    if (accepted.isEmpty()) {
+      return 0;
+    }
+    List<String> hashes = hashPasswords(accepted);
+    transaction.executeWithoutResult(
+        status -> {
+          List<Long> userIds = insertUsers(accepted, hashes, Role.CLIENT);
+          List<Object[]> rows = new ArrayList<>();
+          for (int i = 0; i < accepted.size(); i++) {
+            ClientRecord record = accepted.get(i).record;
+            rows.add(
+                new Object[] {userIds.get(i), record.getFullName().trim(), record.getCompany()});
+          }
+          jdbc.batchUpdate(
+              "insert into clients (user_id, full_name, company) values (?, ?, ?)", rows);
+        });
+    return accepted.size();
+  }
+
+  private int writeReviews(List<Pending<ReviewRecord>> chunk, Rejections rejections) {
+    Set<String> clientEmails = new HashSet<>();
+    Set<String> freelancerEmails = new HashSet<>();
+    for (Pending<ReviewRecord> pending : chunk) {
+      clientEmails.add(emailKey(pending.record.getClientEmail()));
+      freelancerEmails.add(emailKey(pending.record.getFreelancerEmail()));
+    }
+    Map<String, Long> clients = profileIdsByEmail("clients", clientEmails);
+    Map<String, Long> freelancers = profileIdsByEmail("freelancers", freelancerEmails);
+
+    List<Object[]> projects = new ArrayList<>();
+    List<Object[]> reviews = new ArrayList<>();
+    Set<Long> reviewedFreelancers = new HashSet<>();
+    for (Pending<ReviewRecord> pending : chunk) {
+      ReviewRecord record = pending.record;
+      Long clientId = clients.get(emailKey(record.getClientEmail()));
+      Long freelancerId = freelancers.get(emailKey(record.getFreelancerEmail()));
+      if (clientId == null) {
+        rejections.add(pending.line, "Unknown client: " + record.getClientEmail());
+        continue;
+      }
+      if (freelancerId == null) {
+        rejections.add(pending.line, "Unknown freelancer: " + record.getFreelancerEmail());
+        continue;
+      }
+      Timestamp createdAt;
+      try {
+        createdAt =
+            Timestamp.from(
+                record.getCreatedAt() == null
+                    ? Instant.now()
+                    : Instant.parse(record.getCreatedAt().trim()));
+      } catch (DateTimeParseException ex) {
+        rejections.add(pending.line, "createdAt: must be an ISO-8601 instant");
+        continue;
+      }
+      String title = record.getTitle();
+      projects.add(
+          new Object[] {
+            clientId,
+            freelancerId,
+            title == null || title.isBlank() ? DEFAULT_REVIEW_TITLE : title.trim(),
+            ProjectStatus.COMPLETED.name(),
+            createdAt,
+            createdAt
+          });
+      // The project id is filled in once the projects batch returns its keys.
+      reviews.add(
+          new Object[] {
+            null, clientId, freelancerId, record.getRating(), record.getComment(), createdAt
+          });
+      reviewedFreelancers.add(freelancerId);
+    }
+    if (projects.isEmpty()) {
+      return 0;
+    }
+    transaction.executeWithoutResult(
+        status -> {
+          List<Long> projectIds =
+              insertReturningIds(
+                  "insert into projects (client_id, freelancer_id, title, status, created_at, "
+                      + "updated_at) values (?, ?, ?, ?, ?, ?)",
+                  projects);
+          for (int i = 0; i < reviews.size(); i++) {
+            reviews.get(i)[0] = projectIds.get(i);
+          }
+          jdbc.batchUpdate(
+              "insert into reviews (project_id, client_id, freelancer_id, rating, comment, "
+                  + "created_at) values (?, ?, ?, ?, ?, ?)",
+              reviews);
+          ratingService.rebuild(reviewedFreelancers);
+        });
+    return reviews.size();
+  }
+
+  // Drops rows whose email repeats within the chunk or is already registered.
+  private <T extends AccountRecord> List<Pending<T>> withNewEmails(
+      List<Pending<T>> chunk, Rejections rejections) {
+    Set<String> emails = new HashSet<>();
+    List<Pending<T>> unique = new ArrayList<>();
+    for (Pending<T> pending : chunk) {
+      if (emails.add(emailKey(pending.record.getEmail()))) {
+        unique.add(pending);
+      } else {
+        rejections.add(pending.line, "Duplicate email in import: " + pending.record.getEmail());
+      }
+    }
+    Set<String> taken = new HashSet<>();
+    for (String email :
+        namedJdbc.queryForList(
+            "select email from users where email in (:emails)",
+            Map.of("emails", emails),
+            String.class)) {
+      taken.add(emailKey(email));
+    }
+    List<Pending<T>> accepted = new ArrayList<>();
+    for (Pending<T> pending : unique) {
+      if (taken.contains(emailKey(pending.record.getEmail()))) {
+        rejections.add(pending.line, "Email already registered.");
+      } else {
+        accepted.add(pending);
+      }
+    }
+    return accepted;
+  }
+
+  private <T extends AccountRecord> List<String> hashPasswords(List<Pending<T>> accounts) {
+    List<Future<String>> futures = new ArrayList<>();
+    for (Pending<T> pending : accounts) {
+      String hash = pending.record.getPasswordHash();
+      String password = pending.record.getPassword();
+      futures.add(
+          hash != null
+              ? CompletableFuture.completedFuture(hash)
+              : hashExecutor.submit(() -> passwordEncoder.encode(password)));
+    }
+    List<String> hashes = new ArrayList<>();
+    try {
+      for (Future<String> future : futures) {
+        hashes.add(future.get());
+      }
+    } catch (InterruptedException ex) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while hashing passwords", ex);
+    } catch (ExecutionException ex) {
+      throw new IllegalStateException("Password hashing failed", ex.getCause());
+    }
+    return hashes;
+  }
+
+  private <T extends AccountRecord> List<Long> insertUsers(
+      List<Pending<T>> accounts, List<String> hashes, Role role) {
+    Timestamp now = Timestamp.from(Instant.now());
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < accounts.size(); i++) {
+      rows.add(
+          new Object[] {
+            accounts.get(i).record.getEmail().trim(), hashes.get(i), role.name(), true, now
+          });
+    }
+    return insertReturningIds(
+        "insert into users (email, password, role, enabled, created_at) values (?, ?, ?, ?, ?)",
+        rows);
+  }
+
+  // The tables keep their identity columns for the regular write path, so ids come back from the
+  // batch itself through generated keys rather than one insert per row.
+  private List<Long> insertReturningIds(String sql, List<Object[]> rows) {
+    GeneratedKeyHolder keys = new GeneratedKeyHolder();
+    jdbc.batchUpdate(
+        connection -> connection.prepareStatement(sql, new String[] {"id"}),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement statement, int index) throws SQLException {
+            Object[] row = rows.get(index);
+            for (int column = 0; column < row.length; column++) {
+              statement.setObject(column + 1, row[column]);
+            }
+          }
+
+          @Override
+          public int getBatchSize() {
+            return rows.size();
+          }
+        },
+        keys);
+    List<Long> ids = new ArrayList<>();
+    for (Map<String, Object> key : keys.getKeyList()) {
+      ids.add(((Number) key.values().iterator().next()).longValue());
+    }
+    if (ids.size() != rows.size()) {
+      throw new IllegalStateException(
+          "Expected " + rows.size() + " generated ids but the driver returned " + ids.size());
+    }
+    return ids;
+  }
+
+  private Map<String, Long> profileIdsByEmail(String table, Set<String> emails) {
+    Map<String, Long> ids = new HashMap<>();
+    namedJdbc.query(
+        "select u.email, p.id from " + table + " p join users u on u.id = p.user_id "
+            + "where u.email in (:emails)",
+        Map.of("emails", emails),
+        rs -> {
+          ids.put(emailKey(rs.getString(1)), rs.getLong(2));
+        });
+    return ids;
+  }
+
+  private String validate(Object record) {
+    Set<ConstraintViolation<Object>> violations = validator.validate(record);
+    if (!violations.isEmpty()) {
+      return violations.stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted(Comparator.naturalOrder())
+          .findFirst()
+          .get();
+    }
+    if (record instanceof AccountRecord) {
+      AccountRecord account = (AccountRecord) record;
+      if (account.getPasswordHash() != null) {
+        if (!BCRYPT_HASH.matcher(account.getPasswordHash()).matches()) {
+          return "passwordHash: must be a BCrypt hash";
+        }
+      } else if (account.getPassword() == null || account.getPassword().isBlank()) {
+        return "password: must not be blank";
+      }
+    }
+    return null;
+  }
+
+  private static List<Category> categoriesOf(
+      FreelancerRecord record, Map<String, Category> categories) {
+    List<Category> own = new ArrayList<>();
+    if (record.getCategoryNames() != null) {
+      Set<Long> seen = new HashSet<>();
+      for (String name : record.getCategoryNames()) {
+        Category category = name == null ? null : categories.get(categoryKey(name));
+        if (category != null && seen.add(category.getId())) {
+          own.add(category);
+        }
+      }
+    }
+    return own;
+  }
+
+  private static String categoryKey(String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static String emailKey(String email) {
+    return email.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private interface ChunkWriter<T> {
+    int write(List<Pending<T>> chunk, Rejections rejections);
+  }
+
+  private static final class Pending<T> {
+    private final long line;
+    private final T record;
+
+    Pending(long line, T record) {
+      this.line = line;
+      this.record = record;
+    }
+  }
+
+  private final class Rejections {
+    private final String type;
+    private final int maxReported;
+    private final List<RejectedRow> reported = new ArrayList<>();
+    private long count;
+
+    Rejections(String type, int maxReported) {
+      this.type = type;
+      this.maxReported = maxReported;
+    }
+
+    void add(long line, String reason) {
+      count++;
+      if (reported.size() < maxReported) {
+        reported.add(new RejectedRow(line, reason));
+      }
+      meterRegistry.counter("import.rows", "type", type, "result", "rejected").increment();
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package com.freelaconnect.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelaconnect.api.model.Category;
+import com.freelaconnect.api.repository.CategoryRepository;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory copy of the categories table, re-read every {@code app.categories.refresh-interval}.
+ * Names resolve case-insensitively, like the unique index on {@code categories.name}. The cached
+ * entities are detached and only their ids are used when they are attached to a freelancer.
+ */
+@Service
+public class CategoryRegistry {
+  private final CategoryRepository categoryRepository;
+  private final ObjectMapper objectMapper;
+  private final long refreshIntervalNanos;
+  private volatile Snapshot snapshot;
+  private volatile long loadedAt;
+
+  public CategoryRegistry(
+      CategoryRepository categoryRepository,
+      ObjectMapper objectMapper,
+      @Value("${app.categories.refresh-interval}") Duration refreshInterval) {
+    this.categoryRepository = categoryRepository;
+    this.objectMapper = objectMapper;
+    this.refreshIntervalNanos = refreshInterval.toNanos();
+  }
+
+  public List<Category> getAll() {
+    return current().categories;
+  }
+
+  public Snapshot getSnapshot() {
+    return current();
+  }
+
+  /**
+   * Returns the categories for the given names, creating any that do not exist yet. Unknown names
+   * are looked up in one query and inserted with {@code insert ignore} on the caller's connection,
+   * then read back with a locking read, which also finds a row another transaction committed first.
+   * New categories join the snapshot once the transaction commits.
+   */
+  @Transactional
+  public Set<Category> resolve(Collection<String> names) {
+    Map<String, String> requested = new LinkedHashMap<>();
+    for (String name : names) {
+      if (name != null && !name.isBlank()) {
+        requested.putIfAbsent(key(name), name.trim());
+      }
+    }
+    Set<Category> resolved = new HashSet<>();
+    List<String> missing = new ArrayList<>();
+    Snapshot current = current();
+    for (Map.Entry<String, String> entry : requested.entrySet()) {
+      Category category = current.byName.get(entry.getKey());
+      if (category != null) {
+        resolved.add(category);
+      } else {
+        missing.add(entry.getValue());
+      }
+    }
+    if (!missing.isEmpty()) {
+      List<Category> found = categoryRepository.findByNameIn(missing);
+      if (found.size() < missing.size()) {
+        Set<String> foundKeys = new HashSet<>();
+        found.forEach(category -> foundKeys.add(key(category.getName())));
+        missing.stream()
+            .filter(name -> !foundKeys.contains(key(name)))
+            .forEach(categoryRepository::insertIfAbsent);
+        found = categoryRepository.findByNameInForShare(missing);
+      }
+      resolved.addAll(found);
+      publishAfterCommit(found);
+    }
+    return resolved;
+  }
+
+  public synchronized void reload() {
+    Snapshot loaded = Snapshot.of(categoryRepository.findAll(), objectMapper, version() + 1);
+    // Keeps the version when nothing changed.
+    if (snapshot == null || !snapshot.etag.equals(loaded.etag)) {
+      snapshot = loaded;
+    }
+    loadedAt = System.nanoTime();
+  }
+
+  private Snapshot current() {
+    Snapshot current = snapshot;
+    if (current == null || System.nanoTime() - loadedAt > refreshIntervalNanos) {
+      synchronized (this) {
+        if (snapshot == null || System.nanoTime() - loadedAt > refreshIntervalNanos) {
+          reload();
+        }
+        current = snapshot;
+      }
+    }
+    return current;
+  }
+
+  private void publishAfterCommit(List<Category> categories) {
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            publish(categories);
+          }
+        });
+  }
+
+  // Merges newly seen categories into the snapshot. Runs after commit, so it does not query:
+  // resolve has already loaded a snapshot.
+  private synchronized void publish(List<Category> categories) {
+    Snapshot current = snapshot;
+    Map<String, Category> byName = new LinkedHashMap<>(current.byName);
+    boolean changed = false;
+    for (Category category : categories) {
+      changed |= byName.putIfAbsent(key(category.getName()), category) == null;
+    }
+    if (changed) {
+      snapshot = Snapshot.of(byName.values(), objectMapper, current.version + 1);
+    }
+  }
+
+  private long version() {
+    Snapshot current = snapshot;
+    return current == null ? 0 : current.version;
+  }
+
+  private static String contentHash(byte[] json) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+      return HexFormat.of().formatHex(hash, 0, 16);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static String key(String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+
+  public static final class Snapshot {
+    private final Map<String, Category> byName;
+    private final List<Category> categories;
+    private final long version;
+    private final byte[] json;
+    private final String etag;
+
+    private Snapshot(
+        Map<String, Category> byName, List<Category> categories, long version, byte[] json) {
+      this.byName = byName;
+      this.categories = categories;
+      this.version = version;
+      this.json = json;
+      this.etag = "\"" + contentHash(json) + "\"";
+    }
+
+    static Snapshot of(Collection<Category> categories, ObjectMapper objectMapper, long version) {
+      List<Category> sorted = new ArrayList<>(categories);
+      sorted.sort(Comparator.comparing(Category::getId));
+      Map<String, Category> byName = new LinkedHashMap<>();
+      sorted.forEach(category -> byName.putIfAbsent(key(category.getName()), category));
+      try {
+        return new Snapshot(
+            Map.copyOf(byName),
+            List.copyOf(sorted),
+            version,
+            objectMapper.writeValueAsBytes(sorted));
+      } catch (JsonProcessingException ex) {
+        throw new IllegalStateException("Could not serialize categories", ex);
+      }
+    }
+
+    public long getVersion() {
+      return version;
+    }
+
+    // Derived from the content rather than the version so it stays stable across restarts.
+    public String getEtag() {
+      return etag;
+    }
+
+    public byte[] getJson() {
+      return json;
+    }
+  }
+}
@@ -4,98 +4,107 @@ import com.freelaconnect.api.dto.ClientDtos.ClientProfileRequest;
 import com.freelaconnect.api.dto.ClientDtos.ClientProfileResponse;
 import com.freelaconnect.api.dto.ClientDtos.HireProjectRequest;
 import com.freelaconnect.api.dto.ClientDtos.ReviewRequest;
+import com.freelaconnect.api.dto.CursorPage;
 import com.freelaconnect.api.dto.FreelancerDtos.FreelancerSummary;
 import com.freelaconnect.api.model.Client;
 import com.freelaconnect.api.model.Freelancer;
+import com.freelaconnect.api.model.FreelancerRating;
 import com.freelaconnect.api.model.Project;
 import com.freelaconnect.api.model.ProjectStatus;
 import com.freelaconnect.api.model.Review;
-import com.freelaconnect.api.model.User;
 import com.freelaconnect.api.repository.ClientRepository;
 import com.freelaconnect.api.repository.FreelancerRepository;
+import com.freelaconnect.api.repository.FreelancerSort;
 import com.freelaconnect.api.repository.ProjectRepository;
 import com.freelaconnect.api.repository.ReviewRepository;
-import com.freelaconnect.api.repository.UserRepository;
-import com.freelaconnect.api.security.SecurityUtils;
-import com.freelaconnect.api.security.UserPrincipal;
 import java.time.Instant;
 import java.util.List;
-import java.util.Locale;
-import java.util.stream.Collectors;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ClientService {
   private final ClientRepository clientRepository;
-  private final UserRepository userRepository;
+  private final CurrentProfileResolver currentProfile;
   private final FreelancerRepository freelancerRepository;
   private final ProjectRepository projectRepository;
   private final ReviewRepository reviewRepository;
   private final FreelancerService freelancerService;
+  private final FreelancerRatingService ratingService;
+  private final PhotoStore photoStore;
 
   public ClientService(
       ClientRepository clientRepository,
-      UserRepository userRepository,
+      CurrentProfileResolver currentProfile,
       FreelancerRepository freelancerRepository,
       ProjectRepository projectRepository,
       ReviewRepository reviewRepository,
-      FreelancerService freelancerService) {
+      FreelancerService freelancerService,
+      FreelancerRatingService ratingService,
+      PhotoStore photoStore) {
     this.clientRepository = clientRepository;
-    this.userRepository = userRepository;
+    this.currentProfile = currentProfile;
     this.freelancerRepository = freelancerRepository;
     this.projectRepository = projectRepository;
     this.reviewRepository = reviewRepository;
     this.freelancerService = freelancerService;
+    this.ratingService = ratingService;
+    this.photoStore = photoStore;
   }
 
   public Client getCurrentClient() {
-    UserPrincipal principal = SecurityUtils.currentUser();
-    User user =
-        userRepository
-            .findById(principal.getId())
-            .orElseThrow(() -> new IllegalStateException("User not found"));
-    return clientRepository
-        .findByUser(user)
-        .orElseThrow(() -> new IllegalStateException("Client profile not found"));
-  }
-
-  public List<FreelancerSummary> browseFreelancers(
-      String category, String minRating, String skill, String search) {
-    String safeCategory = normalize(category);
-    String safeRating = normalize(minRating);
+    return currentProfile.currentClient();
+  }
+
+  @Transactional(readOnly = true)
+  public ContentVersion getDirectoryVersion() {
+    return freelancerService.getDirectoryVersion();
+  }
+
+  @Transactional(readOnly = true)
+  public CursorPage<FreelancerSummary> browseFreelancers(
+      String category,
+      String minRating,
+      String skill,
+      String search,
+      String sort,
+      String cursor,
+      int limit) {
     String safeSkill = normalize(skill);
     String safeSearch = normalize(search);
+    FreelancerSort defaultSort =
+        safeSkill != null || safeSearch != null ? FreelancerSort.RELEVANCE : FreelancerSort.OLDEST;
+    return freelancerService.browsePage(
+        normalize(category),
+        parseRating(normalize(minRating)),
+        safeSkill,
+        safeSearch,
+        FreelancerSort.parse(sort, defaultSort),
+        cursor,
+        limit);
+  }
 
-    List<FreelancerSummary> all = freelancerService.browseAll();
-    return all.stream()
-        .filter(
-            summary ->
-                safeCategory == null
-                    || (summary.getCategories() != null
-                        && summary.getCategories().stream()
-                            .anyMatch(cat -> cat.equalsIgnoreCase(safeCategory))))
-        .filter(
-            summary ->
-                safeRating == null
-                    || summary.getAverageRating() >= Double.parseDouble(safeRating))
-        .filter(
-            summary ->
-                safeSkill == null
-                    || (summary.getSkills() != null
-                        && summary.getSkills()
-                            .toLowerCase(Locale.ROOT)
-                            .contains(safeSkill.toLowerCase(Locale.ROOT))))
-        .filter(
-            summary ->
-                safeSearch == null
-                    || summary.getFullName()
-                        .toLowerCase(Locale.ROOT)
-                        .contains(safeSearch.toLowerCase(Locale.ROOT))
-                    || (summary.getSkills() != null
-                        && summary.getSkills()
-                            .toLowerCase(Locale.ROOT)
-                            .contains(safeSearch.toLowerCase(Locale.ROOT))))
-        .collect(Collectors.toList());
+  @Transactional(readOnly = true)
+  public List<FreelancerSummary> browseFreelancerList(
+      String category, String minRating, String skill, String search, String sort) {
+    return freelancerService.browseList(
+        normalize(category),
+        parseRating(normalize(minRating)),
+        normalize(skill),
+        normalize(search),
+        FreelancerSort.parse(sort));
+  }
+
+  private Double parseRating(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Double.parseDouble(value);
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Invalid rating: " + value);
+    }
   }
 
   private String normalize(String value) {
@@ -106,12 +115,15 @@ public class ClientService {
     return trimmed.isEmpty() ? null : trimmed;
   }
 
+  @Transactional
   public Project hireFreelancer(HireProjectRequest request) {
     Client client = getCurrentClient();
     Freelancer freelancer =
         freelancerRepository
             .findById(request.getFreelancerId())
             .orElseThrow(() -> new IllegalArgumentException("Freelancer not found"));
+    // The project is serialized with its freelancer's categories after the transaction ends.
+    Hibernate.initialize(freelancer.getCategories());
     Project project = new Project();
     project.setClient(client);
     project.setFreelancer(freelancer);
@@ -127,6 +139,7 @@ public class ClientService {
     return projectRepository.save(project);
   }
 
+  @Transactional
   public Review completeProject(Long projectId, Integer rating, String comment) {
     Client client = getCurrentClient();
     Project project =
@@ -143,9 +156,7 @@ public class ClientService {
     if (rating == null && (comment == null || comment.isBlank())) {
       return null;
     }
-    if (rating == null) {
-      throw new IllegalArgumentException("Rating is required");
-    }
+    validateRating(rating);
     if (reviewRepository.findByProject(project).isPresent()) {
       throw new IllegalArgumentException("Review already submitted for this project");
     }
@@ -156,9 +167,10 @@ public class ClientService {
     review.setRating(rating);
     review.setComment(comment);
     review.setCreatedAt(Instant.now());
-    return reviewRepository.save(review);
+    return saveReview(review);
   }
 
+  @Transactional
   public Review addReview(ReviewRequest request) {
     Client client = getCurrentClient();
     Project project =
@@ -171,6 +183,7 @@ public class ClientService {
     if (project.getStatus() != ProjectStatus.COMPLETED) {
       throw new IllegalArgumentException("Project must be completed before review");
     }
+    validateRating(request.getRating());
     if (reviewRepository.findByProject(project).isPresent()) {
       throw new IllegalArgumentException("Review already submitted for this project");
     }
@@ -181,29 +194,53 @@ public class ClientService {
     review.setRating(request.getRating());
     review.setComment(request.getComment());
     review.setCreatedAt(Instant.now());
-    return reviewRepository.save(review);
+    return saveReview(review);
+  }
+
+  private void validateRating(Integer rating) {
+    if (rating == null) {
+      throw new IllegalArgumentException("Rating is required");
+    }
+    if (rating < FreelancerRating.MIN_STARS || rating > FreelancerRating.MAX_STARS) {
+      throw new IllegalArgumentException("Rating must be between 1 and 5");
+    }
+  }
+
+  private Review saveReview(Review review) {
+    Review saved = reviewRepository.save(review);
+    Hibernate.initialize(saved.getFreelancer().getCategories());
+    ratingService.recordReview(
+        saved.getFreelancer().getId(), saved.getRating(), saved.getCreatedAt());
+    return saved;
   }
 
+  @Transactional(readOnly = true)
   public List<Project> getMyProjects() {
     Client client = getCurrentClient();
     return projectRepository.findByClient(client);
   }
 
+  @Transactional(readOnly = true)
   public ClientProfileResponse getMyProfile() {
     Client client = getCurrentClient();
     return mapProfile(client);
   }
 
+  @Transactional
   public ClientProfileResponse updateMyProfile(ClientProfileRequest request) {
     Client client = getCurrentClient();
-    if (request.getFullName() != null) {
+    if (request.getFullName() != null && !request.getFullName().equals(client.getFullName())) {
       client.setFullName(request.getFullName());
+      // Reviews on freelancer profiles show the client's name, so those profiles get a new ETag.
+      freelancerRepository
+          .findByIdIn(reviewRepository.findReviewedFreelancerIdsByClient(client.getId()))
+          .forEach(Freelancer::touch);
     }
     if (request.getCompany() != null) {
       client.setCompany(request.getCompany());
     }
     if (request.getProfilePhotoUrl() != null) {
-      client.setProfilePhotoUrl(request.getProfilePhotoUrl());
+      client.setProfilePhotoUrl(photoStore.toReference(request.getProfilePhotoUrl()));
     }
     clientRepository.save(client);
     return mapProfile(client);
@@ -0,0 +1,20 @@
+package com.freelaconnect.api.service;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Strong validator for a response, read before the content itself is built.
+@Getter
+@AllArgsConstructor
+public class ContentVersion {
+  private final String etag;
+  // Null when unknown; the ETag alone then decides.
+  private final Instant lastModified;
+
+  // Same version as a weak validator. Tomcat only gzips responses whose ETag is weak, since the
+  // compressed bytes no longer match a strong one.
+  public ContentVersion weak() {
+    return etag.startsWith("W/") ? this : new ContentVersion("W/" + etag, lastModified);
+  }
+}
@@ -0,0 +1,79 @@
+package com.freelaconnect.api.service;
+
+import com.freelaconnect.api.model.Client;
+import com.freelaconnect.api.model.Freelancer;
+import com.freelaconnect.api.repository.ClientRepository;
+import com.freelaconnect.api.repository.FreelancerRepository;
+import com.freelaconnect.api.security.SecurityUtils;
+import com.freelaconnect.api.security.UserPrincipal;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Loads the client or freelancer profile of the authenticated user by natural id, usually from the
+ * second-level cache, and keeps it on the current request so services called from the same request
+ * share one lookup.
+ */
+@Component
+public class CurrentProfileResolver {
+  private static final String CLIENT_ATTRIBUTE = CurrentProfileResolver.class.getName() + ".client";
+  private static final String FREELANCER_ATTRIBUTE =
+      CurrentProfileResolver.class.getName() + ".freelancer";
+
+  private final ClientRepository clientRepository;
+  private final FreelancerRepository freelancerRepository;
+
+  public CurrentProfileResolver(
+      ClientRepository clientRepository, FreelancerRepository freelancerRepository) {
+    this.clientRepository = clientRepository;
+    this.freelancerRepository = freelancerRepository;
+  }
+
+  public Client currentClient() {
+    return resolve(
+        CLIENT_ATTRIBUTE,
+        Client.class,
+        userId ->
+            clientRepository
+                .findByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("Client profile not found")));
+  }
+
+  public Freelancer currentFreelancer() {
+    return resolve(
+        FREELANCER_ATTRIBUTE,
+        Freelancer.class,
+        userId ->
+            freelancerRepository
+                .findByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("Freelancer profile not found")));
+  }
+
+  private <T> T resolve(String attribute, Class<T> type, Function<Long, T> loader) {
+    UserPrincipal principal = SecurityUtils.currentUser();
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (request == null) {
+      return loader.apply(principal.getId());
+    }
+    Object cached = request.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+    if (cached instanceof Resolved && ((Resolved) cached).userId.equals(principal.getId())) {
+      return type.cast(((Resolved) cached).profile);
+    }
+    T profile = loader.apply(principal.getId());
+    request.setAttribute(
+        attribute, new Resolved(principal.getId(), profile), RequestAttributes.SCOPE_REQUEST);
+    return profile;
+  }
+
+  private static final class Resolved {
+    private final Long userId;
+    private final Object profile;
+
+    private Resolved(Long userId, Object profile) {
+      this.userId = userId;
+      this.profile = profile;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.freelaconnect.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+public final class CursorCodec {
+  private static final String SEPARATOR = "\u001f";
+
+  private CursorCodec() {}
+
+  public static String encode(String... parts) {
+    byte[] raw = String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+  }
+
+  public static String[] decode(String cursor, int expectedParts) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(SEPARATOR, -1);
+      if (parts.length != expectedParts) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      return parts;
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+
+  public static long parseId(String value) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+
+  public static int clampLimit(int limit, int max) {
+    return Math.min(Math.max(limit, 1), max);
+  }
+
+  // Newest-first pages continue below the id in the cursor; no cursor starts from the top.
+  public static long beforeId(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return Long.MAX_VALUE;
+    }
+    return parseId(decode(cursor.trim(), 1)[0]);
+  }
+
+  // Status filter of a paged list, case-insensitive; blank means the fallback.
+  public static <E extends Enum<E>> E parseStatus(String status, Class<E> type, E fallback) {
+    if (status == null || status.isBlank()) {
+      return fallback;
+    }
+    try {
+      return Enum.valueOf(type, status.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Unknown status: " + status);
+    }
+  }
+}
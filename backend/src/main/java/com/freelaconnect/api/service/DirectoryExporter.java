@@ -0,0 +1,108 @@
+package com.freelaconnect.api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelaconnect.api.dto.FreelancerDtos.FreelancerSummary;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes the whole directory as a JSON array of {@link FreelancerSummary}, in id order like
+ * {@code browseAll}, without holding it in memory. One forward-only query joins each freelancer
+ * to its rating and categories; rows arrive {@code app.directory.export-fetch-size} at a time and
+ * each freelancer is written out as soon as its last category row has been read.
+ */
+@Service
+public class DirectoryExporter {
+  private static final String EXPORT_SQL =
+      "select f.id, f.full_name, f.skills, f.profile_photo_url, r.average_rating, "
+          + "r.review_count, c.name "
+          + "from freelancers f "
+          + "left join freelancer_ratings r on r.freelancer_id = f.id "
+          + "left join freelancer_categories fc on fc.freelancer_id = f.id "
+          + "left join categories c on c.id = fc.category_id "
+          + "order by f.id";
+
+  private final JdbcTemplate jdbc;
+  private final ObjectMapper objectMapper;
+
+  public DirectoryExporter(
+      DataSource dataSource,
+      ObjectMapper objectMapper,
+      @Value("${app.directory.export-fetch-size}") int fetchSize) {
+    // MySQL only streams a positive fetch size with useCursorFetch=true on the JDBC URL.
+    this.jdbc = new JdbcTemplate(dataSource);
+    this.jdbc.setFetchSize(fetchSize);
+    this.objectMapper = objectMapper;
+  }
+
+  // Returns the number of freelancers written.
+  public long export(OutputStream out) throws IOException {
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      generator.writeStartArray();
+      SummaryWriter writer = new SummaryWriter(generator);
+      try {
+        jdbc.query(EXPORT_SQL, writer);
+        writer.flushPending();
+      } catch (UncheckedIOException ex) {
+        throw ex.getCause();
+      }
+      generator.writeEndArray();
+      return writer.written;
+    }
+  }
+
+  // Rows come ordered by freelancer, one per category, so a summary is complete once the id
+  // changes.
+  private static class SummaryWriter implements RowCallbackHandler {
+    private final JsonGenerator generator;
+    private FreelancerSummary pending;
+    private long written;
+
+    private SummaryWriter(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+      long id = rs.getLong(1);
+      if (pending == null || pending.getId() != id) {
+        flushPending();
+        pending = new FreelancerSummary();
+        pending.setId(id);
+        pending.setFullName(rs.getString(2));
+        pending.setSkills(rs.getString(3));
+        pending.setProfilePhotoUrl(rs.getString(4));
+        pending.setAverageRating(rs.getDouble(5));
+        pending.setReviewCount(rs.getLong(6));
+        pending.setCategories(new ArrayList<>());
+      }
+      String category = rs.getString(7);
+      if (category != null) {
+        pending.getCategories().add(category);
+      }
+    }
+
+    private void flushPending() {
+      if (pending == null) {
+        return;
+      }
+      try {
+        generator.writeObject(pending);
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      pending = null;
+      written++;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.freelaconnect.api.service;
+
+import com.freelaconnect.api.dto.FreelancerDtos.RatingBucketDto;
+import com.freelaconnect.api.dto.FreelancerDtos.RatingStats;
+import com.freelaconnect.api.leaderboard.CategoryLeaderboards;
+import com.freelaconnect.api.model.Freelancer;
+import com.freelaconnect.api.model.FreelancerRating;
+import com.freelaconnect.api.model.FreelancerRatingBucket;
+import com.freelaconnect.api.repository.FreelancerRatingBucketRepository;
+import com.freelaconnect.api.repository.FreelancerRatingRepository;
+import com.freelaconnect.api.repository.FreelancerRepository;
+import com.freelaconnect.api.repository.ReviewRepository;
+import com.freelaconnect.api.repository.ReviewRepository.RatingRow;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+@Service
+public class FreelancerRatingService {
+  static final int TREND_DAYS = 90;
+
+  private final FreelancerRatingRepository ratingRepository;
+  private final FreelancerRatingBucketRepository bucketRepository;
+  private final ReviewRepository reviewRepository;
+  private final FreelancerRepository freelancerRepository;
+  private final CategoryLeaderboards leaderboards;
+  private final Clock clock = Clock.systemUTC();
+
+  public FreelancerRatingService(
+      FreelancerRatingRepository ratingRepository,
+      FreelancerRatingBucketRepository bucketRepository,
+      ReviewRepository reviewRepository,
+      FreelancerRepository freelancerRepository,
+      CategoryLeaderboards leaderboards) {
+    this.ratingRepository = ratingRepository;
+    this.bucketRepository = bucketRepository;
+    this.reviewRepository = reviewRepository;
+    this.freelancerRepository = freelancerRepository;
+    this.leaderboards = leaderboards;
+  }
+
+  // Must run in the transaction that saved the review so the aggregate commits with it.
+  public void recordReview(Long freelancerId, int stars, Instant reviewedAt) {
+    // Inserts only when the aggregate is missing: a native write evicts the whole cache region.
+    if (!ratingRepository.existsById(freelancerId)
+        && ratingRepository.insertIfAbsent(freelancerId) == 1) {
+      // First aggregate for this freelancer: count every review, including older ones
+      // that predate the aggregate table.
+      rebuild(freelancerId);
+      return;
+    }
+    FreelancerRating rating =
+        ratingRepository
+            .findForUpdate(freelancerId)
+            .orElseThrow(() -> new IllegalStateException("Rating aggregate not found"));
+    rating.record(stars, reviewedAt);
+    // Through the entity rather than a bulk update, which would evict every cached freelancer.
+    Freelancer freelancer =
+        freelancerRepository
+            .findById(freelancerId)
+            .orElseThrow(() -> new IllegalArgumentException("Freelancer not found"));
+    freelancer.setAverageRating(rating.getAverageRating());
+    freelancer.touch();
+    leaderboards.updateRatingAfterCommit(
+        freelancerId, rating.getRatingSum(), rating.getReviewCount());
+    // The aggregate row lock above serializes writers, so the bucket needs no lock of its own.
+    LocalDate day = dayOf(reviewedAt);
+    bucketRepository.insertIfAbsent(freelancerId, day);
+    bucketRepository.increment(freelancerId, day, stars);
+  }
+
+  public FreelancerRating rebuild(Long freelancerId) {
+    rebuild(List.of(freelancerId));
+    return get(freelancerId);
+  }
+
+  // Recomputes the aggregates and day buckets of the given freelancers from their reviews.
+  // Must run in a transaction; the aggregate rows stay locked until it commits.
+  public void rebuild(Collection<Long> freelancerIds) {
+    if (freelancerIds.isEmpty()) {
+      return;
+    }
+    // Inserts only the missing aggregates: each native write evicts the whole cache region.
+    Set<Long> existing = new HashSet<>(ratingRepository.findExistingIds(freelancerIds));
+    for (Long freelancerId : freelancerIds) {
+      if (!existing.contains(freelancerId)) {
+        ratingRepository.insertIfAbsent(freelancerId);
+      }
+    }
+    Map<Long, FreelancerRating> ratings =
+        ratingRepository.findAllForUpdate(freelancerIds).stream()
+            .collect(Collectors.toMap(FreelancerRating::getFreelancerId, Function.identity()));
+    ratings.values().forEach(FreelancerRating::reset);
+    Map<Long, Map<LocalDate, FreelancerRatingBucket>> buckets = new HashMap<>();
+    // A locking read: the read above fixed the transaction's snapshot, which would miss reviews
+    // committed before the aggregate locks were granted.
+    for (RatingRow row : reviewRepository.findRatingRows(freelancerIds)) {
+      Long freelancerId = row.getFreelancerId();
+      int stars = row.getRating();
+      Instant reviewedAt = row.getCreatedAt();
+      ratings.get(freelancerId).record(stars, reviewedAt);
+      buckets
+          .computeIfAbsent(freelancerId, id -> new HashMap<>())
+          .computeIfAbsent(dayOf(reviewedAt), day -> new FreelancerRatingBucket(freelancerId, day))
+          .record(stars);
+    }
+    bucketRepository.deleteByFreelancerIds(freelancerIds);
+    List<FreelancerRatingBucket> rows = new ArrayList<>();
+    buckets.values().forEach(byDay -> rows.addAll(byDay.values()));
+    bucketRepository.saveAll(rows);
+    // Through the entities, which updates their cache entries; a bulk update would evict every
+    // cached freelancer.
+    for (Freelancer freelancer : freelancerRepository.findByIdIn(freelancerIds)) {
+      freelancer.setAverageRating(ratings.get(freelancer.getId()).getAverageRating());
+      freelancer.touch();
+    }
+    for (FreelancerRating rating : ratings.values()) {
+      leaderboards.updateRatingAfterCommit(
+          rating.getFreelancerId(), rating.getRatingSum(), rating.getReviewCount());
+    }
+  }
+
+  public FreelancerRating get(Long freelancerId) {
+    return ratingRepository.findById(freelancerId).orElseGet(() -> new FreelancerRating(freelancerId));
+  }
+
+  public Map<Long, FreelancerRating> getAll(Collection<Long> freelancerIds) {
+    if (freelancerIds.isEmpty()) {
+      return Map.of();
+    }
+    return ratingRepository.findAllById(freelancerIds).stream()
+        .collect(Collectors.toMap(FreelancerRating::getFreelancerId, Function.identity()));
+  }
+
+  public RatingStats getStats(Long freelancerId) {
+    FreelancerRating rating = ratingRepository.findById(freelancerId).orElse(null);
+    if (rating == null) {
+      if (!freelancerRepository.existsById(freelancerId)) {
+        throw new IllegalArgumentException("Freelancer not found");
+      }
+      rating = new FreelancerRating(freelancerId);
+    }
+    RatingStats stats = new RatingStats();
+    stats.setFreelancerId(freelancerId);
+    stats.setReviewCount(rating.getReviewCount());
+    stats.setAverageRating(rating.getAverageRating());
+    Map<Integer, Long> histogram = new LinkedHashMap<>();
+    long[] counts = rating.getHistogram();
+    for (int stars = FreelancerRating.MIN_STARS; stars <= FreelancerRating.MAX_STARS; stars++) {
+      histogram.put(stars, counts[stars - FreelancerRating.MIN_STARS]);
+    }
+    stats.setHistogram(histogram);
+    stats.setLastReviewAt(rating.getLastReviewAt());
+    stats.setTrendDays(TREND_DAYS);
+    List<RatingBucketDto> trend = new ArrayList<>();
+    long recentCount = 0;
+    long recentSum = 0;
+    if (rating.getReviewCount() > 0) {
+      LocalDate since = LocalDate.now(clock).minusDays(TREND_DAYS - 1);
+      for (FreelancerRatingBucket bucket : bucketRepository.findSince(freelancerId, since)) {
+        RatingBucketDto dto = new RatingBucketDto();
+        dto.setDate(bucket.getBucketDate());
+        dto.setReviewCount(bucket.getReviewCount());
+        dto.setAverageRating((double) bucket.getRatingSum() / bucket.getReviewCount());
+        trend.add(dto);
+        recentCount += bucket.getReviewCount();
+        recentSum += bucket.getRatingSum();
+      }
+    }
+    stats.setTrend(trend);
+    stats.setRecentReviewCount(recentCount);
+    stats.setRecentAverageRating(recentCount == 0 ? null : (double) recentSum / recentCount);
+    return stats;
+  }
+
+  private static LocalDate dayOf(Instant instant) {
+    return instant.atZone(ZoneOffset.UTC).toLocalDate();
+  }
+}
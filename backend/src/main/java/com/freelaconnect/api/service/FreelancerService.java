@@ -1,63 +1,85 @@
 package com.freelaconnect.api.service;
 
+import com.freelaconnect.api.dto.CursorPage;
 import com.freelaconnect.api.dto.FreelancerDtos.FreelancerDetails;
 import com.freelaconnect.api.dto.FreelancerDtos.FreelancerProfileRequest;
 import com.freelaconnect.api.dto.FreelancerDtos.FreelancerSummary;
 import com.freelaconnect.api.dto.FreelancerDtos.ReviewDto;
+import com.freelaconnect.api.leaderboard.CategoryLeaderboards;
+import com.freelaconnect.api.leaderboard.RankedFreelancer;
 import com.freelaconnect.api.model.Category;
 import com.freelaconnect.api.model.Freelancer;
+import com.freelaconnect.api.model.FreelancerRating;
 import com.freelaconnect.api.model.Project;
-import com.freelaconnect.api.model.Review;
-import com.freelaconnect.api.model.User;
-import com.freelaconnect.api.repository.CategoryRepository;
 import com.freelaconnect.api.repository.FreelancerRepository;
+import com.freelaconnect.api.repository.FreelancerRepository.CategoryName;
+import com.freelaconnect.api.repository.FreelancerRepository.SummaryRow;
+import com.freelaconnect.api.repository.FreelancerSort;
+import com.freelaconnect.api.repository.FreelancerSpecifications;
 import com.freelaconnect.api.repository.ProjectRepository;
 import com.freelaconnect.api.repository.ReviewRepository;
-import com.freelaconnect.api.repository.UserRepository;
-import com.freelaconnect.api.security.SecurityUtils;
-import com.freelaconnect.api.security.UserPrincipal;
+import com.freelaconnect.api.repository.ReviewRepository.ReviewRow;
+import com.freelaconnect.api.search.FreelancerSearchIndex;
+import com.freelaconnect.api.search.IndexedFreelancer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class FreelancerService {
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_SEARCH_HITS = 1000;
+  // Bounds the id lists bound into the in (...) clauses of the summary queries.
+  private static final int SUMMARY_BATCH_SIZE = 1000;
+
   private final FreelancerRepository freelancerRepository;
-  private final UserRepository userRepository;
-  private final CategoryRepository categoryRepository;
+  private final CurrentProfileResolver currentProfile;
+  private final CategoryRegistry categoryRegistry;
   private final ProjectRepository projectRepository;
   private final ReviewRepository reviewRepository;
+  private final FreelancerRatingService ratingService;
+  private final PhotoStore photoStore;
+  private final FreelancerSearchIndex searchIndex;
+  private final CategoryLeaderboards leaderboards;
 
   public FreelancerService(
       FreelancerRepository freelancerRepository,
-      UserRepository userRepository,
-      CategoryRepository categoryRepository,
+      CurrentProfileResolver currentProfile,
+      CategoryRegistry categoryRegistry,
       ProjectRepository projectRepository,
-      ReviewRepository reviewRepository) {
+      ReviewRepository reviewRepository,
+      FreelancerRatingService ratingService,
+      PhotoStore photoStore,
+      FreelancerSearchIndex searchIndex,
+      CategoryLeaderboards leaderboards) {
     this.freelancerRepository = freelancerRepository;
-    this.userRepository = userRepository;
-    this.categoryRepository = categoryRepository;
+    this.currentProfile = currentProfile;
+    this.categoryRegistry = categoryRegistry;
     this.projectRepository = projectRepository;
     this.reviewRepository = reviewRepository;
+    this.ratingService = ratingService;
+    this.photoStore = photoStore;
+    this.searchIndex = searchIndex;
+    this.leaderboards = leaderboards;
   }
 
   public Freelancer getCurrentFreelancer() {
-    UserPrincipal principal = SecurityUtils.currentUser();
-    User user =
-        userRepository
-            .findById(principal.getId())
-            .orElseThrow(() -> new IllegalStateException("User not found"));
-    return freelancerRepository
-        .findByUser(user)
-        .orElseThrow(() -> new IllegalStateException("Freelancer profile not found"));
+    return currentProfile.currentFreelancer();
   }
 
+  @Transactional(readOnly = true)
   public FreelancerDetails getMyProfile() {
     Freelancer freelancer = getCurrentFreelancer();
     return mapDetails(freelancer);
   }
 
+  @Transactional
   public FreelancerDetails updateProfile(FreelancerProfileRequest request) {
     Freelancer freelancer = getCurrentFreelancer();
     if (request.getFullName() != null) {
@@ -76,72 +98,238 @@ public class FreelancerService {
       freelancer.setContactEmail(request.getContactEmail());
     }
     if (request.getProfilePhotoUrl() != null) {
-      freelancer.setProfilePhotoUrl(request.getProfilePhotoUrl());
+      freelancer.setProfilePhotoUrl(photoStore.toReference(request.getProfilePhotoUrl()));
     }
     if (request.getCategoryNames() != null) {
-      Set<Category> categories =
-          request.getCategoryNames().stream()
-              .filter(name -> name != null && !name.isBlank())
-              .map(String::trim)
-              .map(
-                  name ->
-                      categoryRepository
-                          .findByName(name)
-                          .orElseGet(
-                              () -> {
-                                Category created = new Category();
-                                created.setName(name);
-                                return categoryRepository.save(created);
-                              }))
-              .collect(Collectors.toSet());
-      freelancer.setCategories(categories);
-    }
-    freelancerRepository.save(freelancer);
+      freelancer.setCategories(categoryRegistry.resolve(request.getCategoryNames()));
+    }
+    // Managed by this transaction, so the changes flush on commit. save would merge it, loading
+    // every detached category from the registry one by one.
+    freelancer.touch();
+    searchIndex.indexAfterCommit(IndexedFreelancer.of(freelancer));
+    leaderboards.updateProfileAfterCommit(RankedFreelancer.of(freelancer));
     return mapDetails(freelancer);
   }
 
+  @Transactional(readOnly = true)
   public List<Project> getMyProjects() {
     Freelancer freelancer = getCurrentFreelancer();
     return projectRepository.findByFreelancer(freelancer);
   }
 
+  @Transactional(readOnly = true)
   public List<ReviewDto> getMyReviews() {
     Freelancer freelancer = getCurrentFreelancer();
-    return reviewRepository.findByFreelancer(freelancer).stream()
-        .map(this::mapReview)
+    return reviewRepository.findReviewRows(freelancer.getId()).stream()
+        .map(FreelancerService::mapReview)
         .collect(Collectors.toList());
   }
 
+  @Transactional(readOnly = true)
   public List<FreelancerSummary> browseAll() {
-    return freelancerRepository.findAll().stream()
-        .map(this::mapSummary)
-        .collect(Collectors.toList());
+    return summaries(freelancerRepository.findIds(null, FreelancerSort.OLDEST.getSort(), 0));
+  }
+
+  @Transactional(readOnly = true)
+  public CursorPage<FreelancerSummary> browsePage(
+      String category,
+      Double minRating,
+      String skill,
+      String search,
+      FreelancerSort sort,
+      String cursor,
+      int limit) {
+    int pageSize = CursorCodec.clampLimit(limit, MAX_PAGE_SIZE);
+    String safeCursor = cursor == null || cursor.isBlank() ? null : cursor.trim();
+    if (sort == FreelancerSort.RELEVANCE) {
+      boolean relevanceCursor =
+          safeCursor == null
+              || FreelancerSort.RELEVANCE.name().equals(CursorCodec.decode(safeCursor, 3)[0]);
+      if (relevanceCursor && searchIndex.isReady() && (search != null || skill != null)) {
+        return browseByRelevance(category, minRating, skill, search, safeCursor, pageSize);
+      }
+      // Index still warming up (or no terms): fall back to SQL matching in id order. A relevance
+      // cursor means nothing there, so such a request starts again from the first page.
+      sort = FreelancerSort.OLDEST;
+      if (relevanceCursor) {
+        safeCursor = null;
+      }
+    }
+    List<Specification<Freelancer>> filters = filters(category, minRating, skill, search);
+    if (safeCursor != null) {
+      filters.add(afterCursor(sort, safeCursor));
+    }
+    List<Long> ids =
+        freelancerRepository.findIds(Specification.allOf(filters), sort.getSort(), pageSize + 1);
+    boolean hasMore = ids.size() > pageSize;
+    List<FreelancerSummary> items = summaries(hasMore ? ids.subList(0, pageSize) : ids);
+    String nextCursor = hasMore ? cursorFor(sort, items.get(items.size() - 1)) : null;
+    return new CursorPage<>(items, nextCursor);
+  }
+
+  @Transactional(readOnly = true)
+  public List<FreelancerSummary> browseList(
+      String category, Double minRating, String skill, String search, FreelancerSort sort) {
+    if (sort == FreelancerSort.RELEVANCE) {
+      sort = FreelancerSort.OLDEST;
+    }
+    List<Specification<Freelancer>> filters = filters(category, minRating, skill, search);
+    return summaries(
+        freelancerRepository.findIds(Specification.allOf(filters), sort.getSort(), 0));
+  }
+
+  private CursorPage<FreelancerSummary> browseByRelevance(
+      String category, Double minRating, String skill, String search, String cursor, int pageSize) {
+    int offset = 0;
+    if (cursor != null) {
+      offset = (int) CursorCodec.parseId(CursorCodec.decode(cursor, 3)[1]);
+    }
+    List<Long> ids = new ArrayList<>();
+    for (FreelancerSearchIndex.Hit hit :
+        searchIndex.search(search, skill, category, MAX_SEARCH_HITS)) {
+      ids.add(hit.getId());
+    }
+    if (minRating != null) {
+      Map<Long, FreelancerRating> ratings = ratingService.getAll(ids);
+      ids.removeIf(
+          id -> {
+            FreelancerRating rating = ratings.get(id);
+            return (rating == null ? 0.0 : rating.getAverageRating()) < minRating;
+          });
+    }
+    if (offset < 0 || offset >= ids.size()) {
+      return new CursorPage<>(List.of(), null);
+    }
+    List<Long> pageIds = ids.subList(offset, Math.min(offset + pageSize, ids.size()));
+    int nextOffset = offset + pageSize;
+    String nextCursor =
+        nextOffset < ids.size()
+            ? CursorCodec.encode(FreelancerSort.RELEVANCE.name(), Integer.toString(nextOffset), "0")
+            : null;
+    return new CursorPage<>(summaries(pageIds), nextCursor);
+  }
+
+  private List<Specification<Freelancer>> filters(
+      String category, Double minRating, String skill, String search) {
+    List<Specification<Freelancer>> filters = new ArrayList<>();
+    if (category != null) {
+      filters.add(FreelancerSpecifications.inCategory(category));
+    }
+    if (minRating != null) {
+      filters.add(FreelancerSpecifications.minRating(minRating));
+    }
+    if (skill != null) {
+      filters.add(FreelancerSpecifications.skillContains(skill));
+    }
+    if (search != null) {
+      filters.add(FreelancerSpecifications.nameOrSkillContains(search));
+    }
+    return filters;
+  }
+
+  private String cursorFor(FreelancerSort sort, FreelancerSummary last) {
+    String key;
+    switch (sort) {
+      case NAME:
+        key = last.getFullName();
+        break;
+      case RATING:
+        key = Double.toString(last.getAverageRating());
+        break;
+      default:
+        key = "";
+    }
+    return CursorCodec.encode(sort.name(), key, Long.toString(last.getId()));
+  }
+
+  private Specification<Freelancer> afterCursor(FreelancerSort sort, String cursor) {
+    String[] parts = CursorCodec.decode(cursor, 3);
+    if (!sort.name().equals(parts[0])) {
+      throw new IllegalArgumentException("Cursor does not match sort order");
+    }
+    if (sort == FreelancerSort.RATING) {
+      try {
+        Double.parseDouble(parts[1]);
+      } catch (NumberFormatException ex) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+    }
+    return FreelancerSpecifications.after(sort, parts[1], CursorCodec.parseId(parts[2]));
+  }
+
+  // A primary-key lookup, usually answered by the second-level cache; the loaded profile stays in
+  // the request's persistence context for getById.
+  @Transactional(readOnly = true)
+  public ContentVersion getVersion(Long id) {
+    Freelancer freelancer =
+        freelancerRepository
+            .findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Freelancer not found"));
+    return new ContentVersion(
+        "\"f" + id + "-" + freelancer.getRevision() + "\"", freelancer.getUpdatedAt());
   }
 
+  // Every directory entry changes through a profile or rating write, both of which move
+  // updatedAt, so the newest updatedAt versions all directory pages at once.
+  @Transactional(readOnly = true)
+  public ContentVersion getDirectoryVersion() {
+    Instant latest = freelancerRepository.findLatestUpdate();
+    long micros =
+        latest == null ? 0 : latest.getEpochSecond() * 1_000_000 + latest.getNano() / 1_000;
+    return new ContentVersion("\"d" + micros + "\"", latest);
+  }
+
+  @Transactional(readOnly = true)
   public FreelancerDetails getById(Long id) {
     Freelancer freelancer =
         freelancerRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("Freelancer not found"));
     return mapDetails(freelancer);
   }
 
-  public Double getAverageRating(Freelancer freelancer) {
-    Double avg = reviewRepository.getAverageRating(freelancer);
-    return avg == null ? 0.0 : avg;
+  // Three statements per batch whatever the page size: summary columns, category names, ratings.
+  private List<FreelancerSummary> summaries(List<Long> ids) {
+    List<FreelancerSummary> summaries = new ArrayList<>(ids.size());
+    for (int from = 0; from < ids.size(); from += SUMMARY_BATCH_SIZE) {
+      List<Long> batch = ids.subList(from, Math.min(from + SUMMARY_BATCH_SIZE, ids.size()));
+      Map<Long, SummaryRow> rows = new HashMap<>();
+      for (SummaryRow row : freelancerRepository.findSummaryRows(batch)) {
+        rows.put(row.getId(), row);
+      }
+      Map<Long, List<String>> categories = new HashMap<>();
+      for (CategoryName row : freelancerRepository.findCategoryNames(batch)) {
+        categories
+            .computeIfAbsent(row.getFreelancerId(), id -> new ArrayList<>())
+            .add(row.getName());
+      }
+      Map<Long, FreelancerRating> ratings = ratingService.getAll(batch);
+      for (Long id : batch) {
+        SummaryRow row = rows.get(id);
+        // Skips profiles deleted between the id query and this one.
+        if (row != null) {
+          summaries.add(
+              mapSummary(
+                  row,
+                  categories.getOrDefault(id, List.of()),
+                  ratings.getOrDefault(id, new FreelancerRating(id))));
+        }
+      }
+    }
+    return summaries;
   }
 
-  private FreelancerSummary mapSummary(Freelancer freelancer) {
+  FreelancerSummary mapSummary(SummaryRow row, List<String> categories, FreelancerRating rating) {
     FreelancerSummary summary = new FreelancerSummary();
-    summary.setId(freelancer.getId());
-    summary.setFullName(freelancer.getFullName());
-    summary.setCategories(
-        freelancer.getCategories().stream().map(Category::getName).collect(Collectors.toList()));
-    summary.setSkills(freelancer.getSkills());
-    summary.setProfilePhotoUrl(freelancer.getProfilePhotoUrl());
-    summary.setAverageRating(getAverageRating(freelancer));
+    summary.setId(row.getId());
+    summary.setFullName(row.getFullName());
+    summary.setCategories(categories);
+    summary.setSkills(row.getSkills());
+    summary.setProfilePhotoUrl(row.getProfilePhotoUrl());
+    summary.setAverageRating(rating.getAverageRating());
+    summary.setReviewCount(rating.getReviewCount());
     return summary;
   }
 
-  private FreelancerDetails mapDetails(Freelancer freelancer) {
+  FreelancerDetails mapDetails(Freelancer freelancer) {
     FreelancerDetails details = new FreelancerDetails();
     details.setId(freelancer.getId());
     details.setFullName(freelancer.getFullName());
@@ -152,20 +340,22 @@ public class FreelancerService {
     details.setProfilePhotoUrl(freelancer.getProfilePhotoUrl());
     details.setWhatsapp(freelancer.getWhatsapp());
     details.setContactEmail(freelancer.getContactEmail());
-    details.setAverageRating(getAverageRating(freelancer));
+    FreelancerRating rating = ratingService.get(freelancer.getId());
+    details.setAverageRating(rating.getAverageRating());
+    details.setReviewCount(rating.getReviewCount());
     details.setReviews(
-        reviewRepository.findByFreelancer(freelancer).stream()
-            .map(this::mapReview)
+        reviewRepository.findReviewRows(freelancer.getId()).stream()
+            .map(FreelancerService::mapReview)
             .collect(Collectors.toList()));
     return details;
   }
 
-  private ReviewDto mapReview(Review review) {
+  private static ReviewDto mapReview(ReviewRow row) {
     ReviewDto dto = new ReviewDto();
-    dto.setId(review.getId());
-    dto.setRating(review.getRating());
-    dto.setComment(review.getComment());
-    dto.setClientName(review.getClient().getFullName());
+    dto.setId(row.getId());
+    dto.setRating(row.getRating());
+    dto.setComment(row.getComment());
+    dto.setClientName(row.getClientName());
     return dto;
   }
 }
@@ -0,0 +1,196 @@
+package com.freelaconnect.api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams import records one at a time from NDJSON (one JSON object per line) or CSV with a
+ * header row. CSV values are read as strings; {@code categoryNames} holds a {@code ;}-separated
+ * list. Rows that cannot be parsed are returned with an error instead of failing the import.
+ */
+public class ImportRecordReader {
+  public enum Format {
+    NDJSON,
+    CSV
+  }
+
+  private static final String LIST_COLUMN = "categoryNames";
+
+  private final BufferedReader reader;
+  private final Format format;
+  private final ObjectMapper objectMapper;
+  private List<String> header;
+  private long line;
+
+  public ImportRecordReader(InputStream input, Format format, ObjectMapper objectMapper) {
+    this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    this.format = format;
+    this.objectMapper = objectMapper;
+  }
+
+  public static Format formatFor(String contentType, String fileName) {
+    if ((contentType != null && contentType.toLowerCase(Locale.ROOT).contains("csv"))
+        || (fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(".csv"))) {
+      return Format.CSV;
+    }
+    return Format.NDJSON;
+  }
+
+  /** Returns the next record, or null at the end of the input. */
+  public Row next() {
+    try {
+      return format == Format.CSV ? nextCsv() : nextJson();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private Row nextJson() throws IOException {
+    String text;
+    do {
+      text = reader.readLine();
+      if (text == null) {
+        return null;
+      }
+      line++;
+    } while (text.isBlank());
+    try {
+      JsonNode node = objectMapper.readTree(text);
+      if (!node.isObject()) {
+        return new Row(line, null, "Expected a JSON object");
+      }
+      return new Row(line, node, null);
+    } catch (IOException ex) {
+      return new Row(line, null, "Malformed JSON");
+    }
+  }
+
+  private Row nextCsv() throws IOException {
+    if (header == null) {
+      List<String> names = readCsvRecord();
+      if (names == null) {
+        return null;
+      }
+      header = new ArrayList<>();
+      for (String name : names) {
+        header.add(name.trim());
+      }
+    }
+    List<String> values;
+    long start;
+    do {
+      start = line + 1;
+      values = readCsvRecord();
+      if (values == null) {
+        return null;
+      }
+    } while (values.size() == 1 && values.get(0).isBlank());
+    if (values.size() != header.size()) {
+      return new Row(
+          start, null, "Expected " + header.size() + " columns but found " + values.size());
+    }
+    ObjectNode node = objectMapper.createObjectNode();
+    for (int i = 0; i < header.size(); i++) {
+      String value = values.get(i);
+      if (value.isEmpty()) {
+        continue;
+      }
+      if (LIST_COLUMN.equals(header.get(i))) {
+        ArrayNode list = node.putArray(LIST_COLUMN);
+        for (String item : value.split(";")) {
+          if (!item.isBlank()) {
+            list.add(item.trim());
+          }
+        }
+      } else {
+        node.put(header.get(i), value);
+      }
+    }
+    return new Row(start, node, null);
+  }
+
+  // RFC 4180: fields may be quoted, quotes inside are doubled, and quoted fields may span lines.
+  private List<String> readCsvRecord() throws IOException {
+    String text = reader.readLine();
+    if (text == null) {
+      return null;
+    }
+    line++;
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    int i = 0;
+    while (true) {
+      if (i == text.length()) {
+        if (!quoted) {
+          break;
+        }
+        text = reader.readLine();
+        if (text == null) {
+          break;
+        }
+        line++;
+        field.append('\n');
+        i = 0;
+        continue;
+      }
+      char c = text.charAt(i++);
+      if (quoted) {
+        if (c == '"') {
+          if (i < text.length() && text.charAt(i) == '"') {
+            field.append('"');
+            i++;
+          } else {
+            quoted = false;
+          }
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  public static final class Row {
+    private final long line;
+    private final JsonNode node;
+    private final String error;
+
+    Row(long line, JsonNode node, String error) {
+      this.line = line;
+      this.node = node;
+      this.error = error;
+    }
+
+    public long getLine() {
+      return line;
+    }
+
+    public JsonNode getNode() {
+      return node;
+    }
+
+    public String getError() {
+      return error;
+    }
+  }
+}
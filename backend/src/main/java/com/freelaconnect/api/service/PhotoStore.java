@@ -0,0 +1,181 @@
+package com.freelaconnect.api.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PhotoStore {
+  public static final String URL_PREFIX = "/api/photos/";
+  private static final int MAX_REFERENCE_LENGTH = 512;
+  private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+  // Raster formats only: an SVG could carry script that would run on the API origin.
+  private static final Set<String> CONTENT_TYPES =
+      Set.of("image/png", "image/jpeg", "image/webp", "image/gif");
+  private static final Pattern DATA_URL =
+      Pattern.compile("^data:(image/[a-z0-9.+-]+);base64,", Pattern.CASE_INSENSITIVE);
+
+  private final Path root;
+  private final long maxBytes;
+
+  public PhotoStore(
+      @Value("${app.photos.dir}") String dir, @Value("${app.photos.max-bytes}") long maxBytes) {
+    this.root = Paths.get(dir).toAbsolutePath().normalize();
+    this.maxBytes = maxBytes;
+  }
+
+  public static boolean isDataUrl(String value) {
+    return value != null && value.regionMatches(true, 0, "data:", 0, 5);
+  }
+
+  public static boolean isValidHash(String hash) {
+    return hash != null && HASH.matcher(hash).matches();
+  }
+
+  // Turns an incoming profilePhotoUrl into what gets stored in the row: inline data URLs are
+  // moved into the store and replaced by a short /api/photos/{hash} reference.
+  public String toReference(String value) {
+    if (value == null || value.isBlank()) {
+      return value;
+    }
+    String trimmed = value.trim();
+    if (isDataUrl(trimmed)) {
+      return URL_PREFIX + storeDataUrl(trimmed);
+    }
+    if (trimmed.length() > MAX_REFERENCE_LENGTH) {
+      throw new IllegalArgumentException("Profile photo URL is too long");
+    }
+    return trimmed;
+  }
+
+  public String storeDataUrl(String dataUrl) {
+    DecodedPhoto photo = decodeDataUrl(dataUrl);
+    save(photo);
+    return photo.getHash();
+  }
+
+  // Validates and hashes without writing, for callers that save only once their row commits.
+  public DecodedPhoto decodeDataUrl(String dataUrl) {
+    Matcher matcher = DATA_URL.matcher(dataUrl);
+    if (!matcher.find()) {
+      throw new IllegalArgumentException("Unsupported profile photo format");
+    }
+    String contentType = matcher.group(1).toLowerCase(Locale.ROOT);
+    if (!CONTENT_TYPES.contains(contentType)) {
+      throw new IllegalArgumentException("Unsupported profile photo format");
+    }
+    byte[] bytes;
+    try {
+      bytes = Base64.getMimeDecoder().decode(dataUrl.substring(matcher.end()));
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Profile photo is not valid base64");
+    }
+    if (bytes.length == 0) {
+      throw new IllegalArgumentException("Profile photo is empty");
+    }
+    if (bytes.length > maxBytes) {
+      throw new IllegalArgumentException("Profile photo is too large");
+    }
+    return new DecodedPhoto(sha256(bytes), bytes, contentType);
+  }
+
+  public void save(DecodedPhoto photo) {
+    Path target = pathFor(photo.hash);
+    if (Files.exists(target)) {
+      return;
+    }
+    try {
+      Files.createDirectories(target.getParent());
+      writeAtomically(
+          target.resolveSibling(photo.hash + ".type"),
+          photo.contentType.getBytes(StandardCharsets.UTF_8));
+      writeAtomically(target, photo.bytes);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Could not store profile photo", ex);
+    }
+  }
+
+  public Optional<Path> find(String hash) {
+    if (!isValidHash(hash)) {
+      return Optional.empty();
+    }
+    Path path = pathFor(hash);
+    return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+  }
+
+  // The type file is not trusted blindly: anything outside the accepted formats is served as bytes.
+  public String contentType(String hash) {
+    Path typeFile = pathFor(hash).resolveSibling(hash + ".type");
+    try {
+      String contentType = Files.readString(typeFile, StandardCharsets.UTF_8).trim();
+      return CONTENT_TYPES.contains(contentType) ? contentType : "application/octet-stream";
+    } catch (IOException ex) {
+      return "application/octet-stream";
+    }
+  }
+
+  private Path pathFor(String hash) {
+    return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+  }
+
+  private void writeAtomically(Path target, byte[] bytes) throws IOException {
+    Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+    try {
+      Files.write(temp, bytes);
+      try {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException ex) {
+        Files.move(temp, target);
+      }
+    } catch (FileAlreadyExistsException ex) {
+      // Same content written concurrently; either copy is fine.
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  public static class DecodedPhoto {
+    private final String hash;
+    private final byte[] bytes;
+    private final String contentType;
+
+    private DecodedPhoto(String hash, byte[] bytes, String contentType) {
+      this.hash = hash;
+      this.bytes = bytes;
+      this.contentType = contentType;
+    }
+
+    public String getHash() {
+      return hash;
+    }
+
+    public String getReference() {
+      return URL_PREFIX + hash;
+    }
+  }
+
+  private static String sha256(byte[] bytes) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
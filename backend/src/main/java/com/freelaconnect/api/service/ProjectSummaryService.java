@@ -0,0 +1,91 @@
+package com.freelaconnect.api.service;
+
+import com.freelaconnect.api.dto.CursorPage;
+import com.freelaconnect.api.dto.ProjectDtos.ProjectSummary;
+import com.freelaconnect.api.model.ProjectStatus;
+import com.freelaconnect.api.repository.ProjectRepository;
+import com.freelaconnect.api.repository.ProjectRepository.SummaryRow;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ProjectSummaryService {
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final ProjectRepository projectRepository;
+  private final CurrentProfileResolver currentProfile;
+
+  public ProjectSummaryService(
+      ProjectRepository projectRepository, CurrentProfileResolver currentProfile) {
+    this.projectRepository = projectRepository;
+    this.currentProfile = currentProfile;
+  }
+
+  @Transactional(readOnly = true)
+  public CursorPage<ProjectSummary> forCurrentClient(
+      String status, LocalDate from, LocalDate to, String cursor, int limit) {
+    int pageSize = CursorCodec.clampLimit(limit, MAX_PAGE_SIZE);
+    return page(
+        projectRepository.findClientSummaryRows(
+            currentProfile.currentClient().getId(),
+            CursorCodec.parseStatus(status, ProjectStatus.class, null),
+            startOf(from),
+            startOf(to == null ? null : to.plusDays(1)),
+            CursorCodec.beforeId(cursor),
+            PageRequest.of(0, pageSize + 1)),
+        pageSize);
+  }
+
+  @Transactional(readOnly = true)
+  public CursorPage<ProjectSummary> forCurrentFreelancer(
+      String status, LocalDate from, LocalDate to, String cursor, int limit) {
+    int pageSize = CursorCodec.clampLimit(limit, MAX_PAGE_SIZE);
+    return page(
+        projectRepository.findFreelancerSummaryRows(
+            currentProfile.currentFreelancer().getId(),
+            CursorCodec.parseStatus(status, ProjectStatus.class, null),
+            startOf(from),
+            startOf(to == null ? null : to.plusDays(1)),
+            CursorCodec.beforeId(cursor),
+            PageRequest.of(0, pageSize + 1)),
+        pageSize);
+  }
+
+  private static CursorPage<ProjectSummary> page(List<SummaryRow> rows, int pageSize) {
+    boolean hasMore = rows.size() > pageSize;
+    List<ProjectSummary> items =
+        rows.stream()
+            .limit(pageSize)
+            .map(ProjectSummaryService::mapRow)
+            .collect(Collectors.toList());
+    String nextCursor =
+        hasMore ? CursorCodec.encode(items.get(items.size() - 1).getId().toString()) : null;
+    return new CursorPage<>(items, nextCursor);
+  }
+
+  private static ProjectSummary mapRow(SummaryRow row) {
+    ProjectSummary summary = new ProjectSummary();
+    summary.setId(row.getId());
+    summary.setTitle(row.getTitle());
+    summary.setServiceName(row.getServiceName());
+    summary.setStatus(row.getStatus().name());
+    summary.setSalary(row.getSalary());
+    summary.setCreatedAt(row.getCreatedAt());
+    summary.setUpdatedAt(row.getUpdatedAt());
+    summary.setCounterpartId(row.getCounterpartId());
+    summary.setCounterpartName(row.getCounterpartName());
+    summary.setRating(row.getRating());
+    return summary;
+  }
+
+  // Date filters are whole UTC days; "to" includes the whole day it names.
+  private static Instant startOf(LocalDate date) {
+    return date == null ? null : date.atStartOfDay(ZoneOffset.UTC).toInstant();
+  }
+}
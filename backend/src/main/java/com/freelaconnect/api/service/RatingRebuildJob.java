@@ -0,0 +1,90 @@
+package com.freelaconnect.api.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recomputes rating rollups from the reviews table. Freelancers are split into batches that
+ * rebuild in parallel, each in its own transaction, so one failing batch does not undo the rest
+ * and row locks are held only briefly.
+ */
+@Component
+public class RatingRebuildJob {
+  private static final Logger log = LoggerFactory.getLogger(RatingRebuildJob.class);
+
+  private final FreelancerRatingService ratingService;
+  private final TransactionTemplate transaction;
+  private final int threads;
+  private final int batchSize;
+
+  public RatingRebuildJob(
+      FreelancerRatingService ratingService,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.ratings.rebuild-threads}") int threads,
+      @Value("${app.ratings.rebuild-batch-size}") int batchSize) {
+    this.ratingService = ratingService;
+    this.transaction = new TransactionTemplate(transactionManager);
+    this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  // Returns the number of freelancers rebuilt; batches that fail are logged and skipped.
+  public int rebuild(List<Long> freelancerIds) {
+    if (freelancerIds.isEmpty()) {
+      return 0;
+    }
+    long start = System.nanoTime();
+    AtomicInteger counter = new AtomicInteger();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "rating-rebuild-" + counter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      List<Future<Integer>> batches = new ArrayList<>();
+      for (int from = 0; from < freelancerIds.size(); from += batchSize) {
+        List<Long> batch =
+            freelancerIds.subList(from, Math.min(from + batchSize, freelancerIds.size()));
+        batches.add(executor.submit(() -> rebuildBatch(batch)));
+      }
+      int rebuilt = 0;
+      for (Future<Integer> batch : batches) {
+        try {
+          rebuilt += batch.get();
+        } catch (ExecutionException ex) {
+          log.warn("Rating rebuild batch failed", ex.getCause());
+        }
+      }
+      log.info(
+          "Rebuilt rating rollups for {} of {} freelancers in {} ms",
+          rebuilt,
+          freelancerIds.size(),
+          (System.nanoTime() - start) / 1_000_000);
+      return rebuilt;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Rating rebuild interrupted", ex);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private int rebuildBatch(List<Long> freelancerIds) {
+    transaction.executeWithoutResult(status -> ratingService.rebuild(freelancerIds));
+    return freelancerIds.size();
+  }
+}
@@ -1,5 +1,6 @@
 package com.freelaconnect.api.service;
 
+import com.freelaconnect.api.dto.CursorPage;
 import com.freelaconnect.api.dto.RequestDtos.CreateRequest;
 import com.freelaconnect.api.dto.RequestDtos.RequestResponse;
 import com.freelaconnect.api.model.Client;
@@ -8,42 +9,45 @@ import com.freelaconnect.api.model.Project;
 import com.freelaconnect.api.model.ProjectRequest;
 import com.freelaconnect.api.model.ProjectStatus;
 import com.freelaconnect.api.model.RequestStatus;
-import com.freelaconnect.api.model.User;
-import com.freelaconnect.api.repository.ClientRepository;
 import com.freelaconnect.api.repository.FreelancerRepository;
 import com.freelaconnect.api.repository.ProjectRepository;
 import com.freelaconnect.api.repository.ProjectRequestRepository;
-import com.freelaconnect.api.repository.UserRepository;
-import com.freelaconnect.api.security.SecurityUtils;
-import com.freelaconnect.api.security.UserPrincipal;
+import com.freelaconnect.api.repository.ProjectRequestRepository.RequestRow;
+import com.freelaconnect.api.repository.ProjectRequestRepository.StatusCount;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class RequestService {
+  private static final Pattern NON_NUMERIC = Pattern.compile("[^0-9.]");
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final ProjectRequestRepository requestRepository;
   private final ProjectRepository projectRepository;
-  private final ClientRepository clientRepository;
   private final FreelancerRepository freelancerRepository;
-  private final UserRepository userRepository;
+  private final CurrentProfileResolver currentProfile;
 
   public RequestService(
       ProjectRequestRepository requestRepository,
       ProjectRepository projectRepository,
-      ClientRepository clientRepository,
       FreelancerRepository freelancerRepository,
-      UserRepository userRepository) {
+      CurrentProfileResolver currentProfile) {
     this.requestRepository = requestRepository;
     this.projectRepository = projectRepository;
-    this.clientRepository = clientRepository;
     this.freelancerRepository = freelancerRepository;
-    this.userRepository = userRepository;
+    this.currentProfile = currentProfile;
   }
 
   public RequestResponse createRequest(CreateRequest request) {
-    Client client = getCurrentClient();
+    Client client = currentProfile.currentClient();
     if (request.getFreelancerId() == null) {
       throw new IllegalArgumentException("Freelancer is required");
     }
@@ -64,16 +68,56 @@ public class RequestService {
     return map(requestRepository.save(entity));
   }
 
+  @Transactional(readOnly = true)
   public List<RequestResponse> getRequestsForFreelancer() {
-    Freelancer freelancer = getCurrentFreelancer();
-    return requestRepository.findByFreelancer(freelancer).stream()
-        .filter(req -> req.getStatus() == RequestStatus.PENDING)
-        .map(this::map)
+    Freelancer freelancer = currentProfile.currentFreelancer();
+    return requestRepository
+        .findInboxRows(
+            freelancer.getId(), RequestStatus.PENDING, Long.MAX_VALUE, Pageable.unpaged())
+        .stream()
+        .map(RequestService::mapRow)
         .collect(Collectors.toList());
   }
 
+  @Transactional(readOnly = true)
+  public CursorPage<RequestResponse> getInbox(String status, String cursor, int limit) {
+    Long freelancerId = currentProfile.currentFreelancer().getId();
+    int pageSize = CursorCodec.clampLimit(limit, MAX_PAGE_SIZE);
+    return page(
+        requestRepository.findInboxRows(
+            freelancerId,
+            CursorCodec.parseStatus(status, RequestStatus.class, RequestStatus.PENDING),
+            CursorCodec.beforeId(cursor),
+            PageRequest.of(0, pageSize + 1)),
+        pageSize);
+  }
+
+  @Transactional(readOnly = true)
+  public CursorPage<RequestResponse> getOutbox(String status, String cursor, int limit) {
+    Long clientId = currentProfile.currentClient().getId();
+    int pageSize = CursorCodec.clampLimit(limit, MAX_PAGE_SIZE);
+    return page(
+        requestRepository.findOutboxRows(
+            clientId,
+            CursorCodec.parseStatus(status, RequestStatus.class, RequestStatus.PENDING),
+            CursorCodec.beforeId(cursor),
+            PageRequest.of(0, pageSize + 1)),
+        pageSize);
+  }
+
+  @Transactional(readOnly = true)
+  public Map<String, Long> countInbox() {
+    return counts(
+        requestRepository.countByStatusForFreelancer(currentProfile.currentFreelancer().getId()));
+  }
+
+  @Transactional(readOnly = true)
+  public Map<String, Long> countOutbox() {
+    return counts(requestRepository.countByStatusForClient(currentProfile.currentClient().getId()));
+  }
+
   public RequestResponse acceptRequest(Long requestId) {
-    Freelancer freelancer = getCurrentFreelancer();
+    Freelancer freelancer = currentProfile.currentFreelancer();
     ProjectRequest request =
         requestRepository
             .findById(requestId)
@@ -104,7 +148,7 @@ public class RequestService {
   }
 
   public RequestResponse declineRequest(Long requestId) {
-    Freelancer freelancer = getCurrentFreelancer();
+    Freelancer freelancer = currentProfile.currentFreelancer();
     ProjectRequest request =
         requestRepository
             .findById(requestId)
@@ -119,28 +163,6 @@ public class RequestService {
     return map(requestRepository.save(request));
   }
 
-  private Client getCurrentClient() {
-    UserPrincipal principal = SecurityUtils.currentUser();
-    User user =
-        userRepository
-            .findById(principal.getId())
-            .orElseThrow(() -> new IllegalStateException("User not found"));
-    return clientRepository
-        .findByUser(user)
-        .orElseThrow(() -> new IllegalStateException("Client profile not found"));
-  }
-
-  private Freelancer getCurrentFreelancer() {
-    UserPrincipal principal = SecurityUtils.currentUser();
-    User user =
-        userRepository
-            .findById(principal.getId())
-            .orElseThrow(() -> new IllegalStateException("User not found"));
-    return freelancerRepository
-        .findByUser(user)
-        .orElseThrow(() -> new IllegalStateException("Freelancer profile not found"));
-  }
-
   private RequestResponse map(ProjectRequest request) {
     RequestResponse response = new RequestResponse();
     response.setId(request.getId());
@@ -155,12 +177,46 @@ public class RequestService {
     return response;
   }
 
-  private Double parseSalary(String salary) {
+  private static CursorPage<RequestResponse> page(List<RequestRow> rows, int pageSize) {
+    boolean hasMore = rows.size() > pageSize;
+    List<RequestResponse> items =
+        rows.stream().limit(pageSize).map(RequestService::mapRow).collect(Collectors.toList());
+    String nextCursor =
+        hasMore ? CursorCodec.encode(items.get(items.size() - 1).getId().toString()) : null;
+    return new CursorPage<>(items, nextCursor);
+  }
+
+  private static RequestResponse mapRow(RequestRow row) {
+    RequestResponse response = new RequestResponse();
+    response.setId(row.getId());
+    response.setFreelancerId(row.getFreelancerId());
+    response.setFreelancerName(row.getFreelancerName());
+    response.setClientName(row.getClientName());
+    response.setType(row.getType());
+    response.setDescription(row.getDescription());
+    response.setDuration(row.getDuration());
+    response.setSalary(row.getSalary());
+    response.setStatus(row.getStatus().name());
+    return response;
+  }
+
+  private static Map<String, Long> counts(List<StatusCount> rows) {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (RequestStatus status : RequestStatus.values()) {
+      counts.put(status.name(), 0L);
+    }
+    for (StatusCount row : rows) {
+      counts.put(row.getStatus().name(), row.getTotal());
+    }
+    return counts;
+  }
+
+  static Double parseSalary(String salary) {
     if (salary == null || salary.isBlank()) {
       return null;
     }
     try {
-      String normalized = salary.replaceAll("[^0-9.]", "");
+      String normalized = NON_NUMERIC.matcher(salary).replaceAll("");
       return normalized.isBlank() ? null : Double.parseDouble(normalized);
     } catch (NumberFormatException ex) {
       return null;
@@ -0,0 +1,134 @@
+package com.freelaconnect.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.freelaconnect.api.model.Role;
+import com.freelaconnect.api.security.UserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes between two in-memory H2 databases that each hold a row naming themselves, wired like
+ * {@link ReplicaRoutingConfig}: behind a lazy connection proxy and a transaction manager.
+ */
+class ReadWriteRoutingDataSourceTest {
+  private HikariDataSource primary;
+  private HikariDataSource replica;
+  private ReadWriteRoutingDataSource routing;
+  private JdbcTemplate jdbc;
+  private TransactionTemplate readWrite;
+  private TransactionTemplate readOnly;
+
+  @BeforeEach
+  void setUp() {
+    primary = database("primary");
+    replica = database("replica-1");
+    routing = new ReadWriteRoutingDataSource(primary, List.of(replica), Duration.ofMinutes(1));
+    routing.afterPropertiesSet();
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbc = new JdbcTemplate(dataSource);
+    readWrite = new TransactionTemplate(transactionManager);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    new JdbcTemplate(primary).execute("shutdown");
+    new JdbcTemplate(replica).execute("shutdown");
+    routing.close();
+  }
+
+  @Test
+  void readsStayOnThePrimaryUntilReplicasAreEnabled() {
+    signIn(1L);
+    assertThat(readOnlyDatabaseName()).isEqualTo("primary");
+  }
+
+  @Test
+  void readOnlyTransactionsGoToTheReplica() {
+    routing.useReplicas();
+    signIn(1L);
+    assertThat(readOnlyDatabaseName()).isEqualTo("replica-1");
+  }
+
+  @Test
+  void writesGoToThePrimary() {
+    routing.useReplicas();
+    signIn(1L);
+    readWrite.executeWithoutResult(status -> insertNote());
+
+    assertThat(countNotes(primary)).isEqualTo(1);
+    assertThat(countNotes(replica)).isZero();
+  }
+
+  @Test
+  void readsAfterAWriteStayOnThePrimary() {
+    routing.useReplicas();
+    signIn(1L);
+    readWrite.executeWithoutResult(status -> insertNote());
+
+    assertThat(readOnlyDatabaseName()).isEqualTo("primary");
+    // Other users are not pinned by someone else's write.
+    signIn(2L);
+    assertThat(readOnlyDatabaseName()).isEqualTo("replica-1");
+  }
+
+  @Test
+  void rolledBackWritesDoNotPinReadsToThePrimary() {
+    routing.useReplicas();
+    signIn(1L);
+    readWrite.executeWithoutResult(
+        status -> {
+          insertNote();
+          status.setRollbackOnly();
+        });
+
+    assertThat(readOnlyDatabaseName()).isEqualTo("replica-1");
+  }
+
+  // The database a read-only transaction was routed to.
+  private String readOnlyDatabaseName() {
+    return readOnly.execute(
+        status -> jdbc.queryForObject("select name from marker", String.class));
+  }
+
+  private void insertNote() {
+    jdbc.update("insert into notes (body) values ('written')");
+  }
+
+  private static int countNotes(HikariDataSource database) {
+    return new JdbcTemplate(database).queryForObject("select count(*) from notes", Integer.class);
+  }
+
+  private static HikariDataSource database(String name) {
+    HikariDataSource database = new HikariDataSource();
+    database.setPoolName(name);
+    database.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    database.setMaximumPoolSize(2);
+    JdbcTemplate jdbc = new JdbcTemplate(database);
+    jdbc.execute("create table marker (name varchar(32))");
+    jdbc.update("insert into marker (name) values (?)", name);
+    jdbc.execute("create table notes (body varchar(32))");
+    return database;
+  }
+
+  private static void signIn(Long userId) {
+    UserPrincipal principal = new UserPrincipal(userId, "user" + userId + "@test", "", Role.CLIENT);
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+  }
+}
@@ -0,0 +1,150 @@
+package com.freelaconnect.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelaconnect.api.dto.AuthDtos.AuthResponse;
+import com.freelaconnect.api.dto.AuthDtos.LoginRequest;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+/**
+ * Runs the directory, profile and request list endpoints against a small generated data set and
+ * checks their {@value SqlInspectorConfig#SQL_COUNT_HEADER} against the budgets in
+ * application.yml, in the worst case those budgets are measured for: second-level cache off and no
+ * cached user status.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:budgets;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+      "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+      "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+      "spring.jpa.properties.hibernate.generate_statistics=false",
+      "app.security.user-status-cache.expire-after-write=0s",
+      "app.sql.inspector.fail-on-budget=true",
+      "app.loadtest.freelancers=200",
+      "app.loadtest.clients=400",
+      "app.loadtest.requests=800",
+      "app.loadtest.projects=800"
+    })
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+class SqlStatementBudgetTest {
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private JdbcTemplate jdbc;
+  @Autowired private Environment environment;
+
+  private Map<String, Integer> budgets;
+
+  @BeforeEach
+  void setUp() {
+    budgets =
+        Binder.get(environment)
+            .bind("app.sql.inspector.budgets", Bindable.mapOf(String.class, Integer.class))
+            .get();
+  }
+
+  @Test
+  void directoryListsStayWithinBudget() throws Exception {
+    assertWithinBudget("GET /api/freelancers", get("/api/freelancers"));
+    assertWithinBudget(
+        "GET /api/freelancers",
+        get("/api/freelancers").param("sort", "rating").param("limit", "50"));
+    assertWithinBudget(
+        "GET /api/clients/freelancers",
+        get("/api/clients/freelancers").header(HttpHeaders.AUTHORIZATION, bearer("client")));
+  }
+
+  @Test
+  void profilesStayWithinBudget() throws Exception {
+    // The freelancer with the most reviews has the most categories and ratings to load, if any.
+    Long reviewed =
+        jdbc.queryForObject(
+            "select freelancer_id from reviews group by freelancer_id order by count(*) desc"
+                + " limit 1",
+            Long.class);
+    assertWithinBudget("GET /api/freelancers/{id}", get("/api/freelancers/" + reviewed));
+    assertWithinBudget(
+        "GET /api/freelancers/{id}/rating-stats",
+        get("/api/freelancers/" + reviewed + "/rating-stats"));
+    assertWithinBudget(
+        "GET /api/freelancers/me",
+        get("/api/freelancers/me").header(HttpHeaders.AUTHORIZATION, bearer("freelancer")));
+  }
+
+  @Test
+  void requestListsStayWithinBudget() throws Exception {
+    // The busiest inbox and outbox, where a per-request lookup would show up as repeats.
+    String freelancer =
+        jdbc.queryForObject(
+            "select u.email from project_requests r join freelancers f on f.id = r.freelancer_id"
+                + " join users u on u.id = f.user_id group by u.email order by count(*) desc"
+                + " limit 1",
+            String.class);
+    String client =
+        jdbc.queryForObject(
+            "select u.email from project_requests r join clients c on c.id = r.client_id"
+                + " join users u on u.id = c.user_id group by u.email order by count(*) desc"
+                + " limit 1",
+            String.class);
+    assertWithinBudget(
+        "GET /api/freelancers/me/requests/inbox",
+        get("/api/freelancers/me/requests/inbox")
+            .header(HttpHeaders.AUTHORIZATION, bearerFor(freelancer)));
+    assertWithinBudget(
+        "GET /api/clients/me/requests/outbox",
+        get("/api/clients/me/requests/outbox")
+            .header(HttpHeaders.AUTHORIZATION, bearerFor(client)));
+  }
+
+  private void assertWithinBudget(String endpoint, RequestBuilder request) throws Exception {
+    MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+    // fail-on-budget turns an overrun into a 500 that names the count.
+    assertThat(response.getStatus()).as(response.getContentAsString()).isEqualTo(200);
+    String count = response.getHeader(SqlInspectorConfig.SQL_COUNT_HEADER);
+    assertThat(count).isNotNull();
+    assertThat(Integer.parseInt(count)).as(endpoint).isBetween(1, budget(endpoint));
+  }
+
+  private int budget(String endpoint) {
+    assertThat(budgets).as("budget for " + endpoint).containsKey(endpoint);
+    return budgets.get(endpoint);
+  }
+
+  private String bearer(String role) throws Exception {
+    return bearerFor("gen-" + role + "-1@load.test");
+  }
+
+  private String bearerFor(String email) throws Exception {
+    LoginRequest login = new LoginRequest();
+    login.setEmail(email);
+    login.setPassword(LoadTestDataGenerator.PASSWORD);
+    String body =
+        mockMvc
+            .perform(
+                post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(login)))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    return "Bearer " + objectMapper.readValue(body, AuthResponse.class).getToken();
+  }
+}